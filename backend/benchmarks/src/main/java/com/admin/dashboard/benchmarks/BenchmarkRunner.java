@@ -0,0 +1,159 @@
+package com.admin.dashboard.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs JMH with the usual command-line options and always writes JSON results
+ * to {@code target/jmh-results/<label>.json}, where the label defaults to the
+ * current git revision. Two runner options come before the JMH ones:
+ *
+ * <pre>
+ * --label=NAME        results file name instead of the git revision
+ * --baseline=FILE     print each benchmark's change against an earlier results file
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String label = null;
+        Path baseline = null;
+        List<String> jmhArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--label=")) {
+                label = arg.substring("--label=".length());
+            } else if (arg.startsWith("--baseline=")) {
+                baseline = Path.of(arg.substring("--baseline=".length()));
+            } else if (!arg.isBlank()) {
+                jmhArgs.add(arg);
+            }
+        }
+
+        CommandLineOptions cli;
+        try {
+            cli = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        } catch (CommandLineOptionException e) {
+            System.err.println("Invalid JMH options: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+        if (cli.shouldList()) {
+            new Runner(cli).list();
+            return;
+        }
+
+        Path results = Path.of("target", "jmh-results", (label != null ? label : revision()) + ".json").toAbsolutePath();
+        Files.createDirectories(results.getParent());
+        Options options = new OptionsBuilder()
+                .parent(cli)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build();
+        new Runner(options).run();
+        System.out.println("Results written to " + results);
+
+        if (baseline != null) {
+            compare(baseline, results);
+        }
+    }
+
+    /**
+     * Prints baseline and current scores side by side. Changes whose error
+     * intervals don't overlap are marked with {@code *}.
+     */
+    static void compare(Path baselineFile, Path currentFile) throws IOException {
+        Map<String, JsonNode> baseline = byBenchmark(baselineFile);
+        Map<String, JsonNode> current = byBenchmark(currentFile);
+        System.out.println();
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue().path("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey())
+                    ? baseline.get(entry.getKey()).path("primaryMetric") : null;
+            double score = now.path("score").asDouble();
+            String unit = now.path("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s %9s%n", entry.getKey(), "-", format(score, unit), "new");
+                continue;
+            }
+            double previous = before.path("score").asDouble();
+            double change = previous == 0 ? 0 : (score - previous) / previous * 100;
+            boolean significant = Math.abs(score - previous)
+                    > now.path("scoreError").asDouble(0) + before.path("scoreError").asDouble(0);
+            System.out.printf("%-70s %14s %14s %+8.1f%%%s%n", entry.getKey(), format(previous, before.path("scoreUnit").asText()),
+                    format(score, unit), change, significant ? " *" : "");
+        }
+    }
+
+    private static Map<String, JsonNode> byBenchmark(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : JSON.readTree(file.toFile())) {
+            String name = result.path("benchmark").asText().replace("com.admin.dashboard.benchmarks.", "");
+            Map<String, String> params = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = result.path("params").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            results.put(params.isEmpty() ? name : name + params, result);
+        }
+        return results;
+    }
+
+    private static String format(double score, String unit) {
+        return String.format("%.3f %s", score, unit);
+    }
+
+    /**
+     * Short git revision with a {@code -dirty} suffix for uncommitted changes,
+     * or a timestamp outside a work tree.
+     */
+    private static String revision() {
+        try {
+            String sha = git("rev-parse", "--short", "HEAD");
+            if (!sha.isEmpty()) {
+                return git("status", "--porcelain", "--untracked-files=no").isEmpty() ? sha : sha + "-dirty";
+            }
+        } catch (IOException e) {
+            // fall through to a timestamp
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    }
+
+    private static String git(String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        return process.waitFor() == 0 ? output : "";
+    }
+}
@@ -0,0 +1,43 @@
+package com.admin.dashboard.benchmarks;
+
+import com.admin.dashboard.DashboardApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application context without a web server against a private
+ * in-memory H2 database, seeded with the built-in sample data, so services
+ * can be benchmarked with real repositories and transactions.
+ */
+final class InMemoryBackend {
+
+    private InMemoryBackend() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        String[] args = {
+                "--spring.datasource.url=jdbc:h2:mem:benchmarks-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;NON_KEYWORDS=MONTH,DATE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.com.admin.dashboard=WARN",
+                "--jwt.secret=" + JwtUtilBenchmark.SECRET,
+                "--security.bcrypt.strength=4"
+        };
+        String[] all = new String[args.length + extraArgs.length];
+        System.arraycopy(args, 0, all, 0, args.length);
+        System.arraycopy(extraArgs, 0, all, args.length, extraArgs.length);
+        return new SpringApplicationBuilder(DashboardApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(all);
+    }
+}
@@ -0,0 +1,132 @@
+package com.admin.dashboard.benchmarks;
+
+import com.admin.dashboard.dto.OrderSummary;
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.OrderItem;
+import com.admin.dashboard.entity.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization with an ObjectMapper configured like Spring Boot's:
+ * a single order with {@code items} line items, the {@code GET /orders} page
+ * map of ten order summaries, and the {@code GET /dashboard/overview} map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> overview;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // Same shape as DashboardController#getDashboardOverview
+        overview = new HashMap<>();
+        overview.put("totalUsers", 10_000L);
+        overview.put("activeUsers", 8_500L);
+        overview.put("totalProducts", 500L);
+        overview.put("productsInStock", 480L);
+        overview.put("totalOrders", 20_000L);
+        overview.put("pendingOrders", 4_000L);
+        overview.put("totalRevenue", new BigDecimal("1234567.89"));
+        overview.put("recentOrders", 1_600L);
+        overview.put("recentRevenue", new BigDecimal("98765.43"));
+        overview.put("asOf", Instant.now());
+    }
+
+    @State(Scope.Benchmark)
+    public static class Orders {
+
+        @Param({"1", "10", "50"})
+        public int items;
+
+        Order order;
+        Map<String, Object> page;
+
+        @Setup
+        public void setUp() {
+            List<Product> products = new ArrayList<>();
+            for (int i = 1; i <= 50; i++) {
+                Product product = new Product("Product " + i, "Electronics", new BigDecimal("19.99").add(BigDecimal.valueOf(i)), 100);
+                product.setId((long) i);
+                product.setSales(i * 10);
+                products.add(product);
+            }
+
+            List<Order> orders = new ArrayList<>();
+            for (int o = 1; o <= 10; o++) {
+                orders.add(order(o, products));
+            }
+            order = orders.get(0);
+
+            // Same shape as OrderController#getAllOrders
+            page = new HashMap<>();
+            page.put("orders", orders.stream().map(OrderSummary::from).toList());
+            page.put("currentPage", 0);
+            page.put("totalItems", 10_000L);
+            page.put("totalPages", 1_000);
+        }
+
+        private Order order(long id, List<Product> products) {
+            Order order = new Order("Customer " + id, BigDecimal.ZERO, Order.Status.PROCESSING);
+            order.setId(id);
+            order.setOrderId("ORD0000000000" + id);
+            order.setOrderDate(LocalDateTime.of(2024, 6, 1, 12, 0));
+            BigDecimal total = BigDecimal.ZERO;
+            for (int i = 0; i < items; i++) {
+                Product product = products.get(i % products.size());
+                OrderItem item = new OrderItem(order, product, 1 + i % 3, product.getPrice());
+                item.setId(id * 100 + i);
+                order.getOrderItems().add(item);
+                total = total.add(item.getTotalPrice());
+            }
+            order.setTotal(total);
+            return order;
+        }
+    }
+
+    @Benchmark
+    public byte[] order(Orders orders) throws Exception {
+        return objectMapper.writeValueAsBytes(orders.order);
+    }
+
+    @Benchmark
+    public byte[] orderPage(Orders orders) throws Exception {
+        return objectMapper.writeValueAsBytes(orders.page);
+    }
+
+    @Benchmark
+    public byte[] overview() throws Exception {
+        return objectMapper.writeValueAsBytes(overview);
+    }
+}
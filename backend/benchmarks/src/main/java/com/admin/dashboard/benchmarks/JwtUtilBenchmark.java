@@ -0,0 +1,71 @@
+package com.admin.dashboard.benchmarks;
+
+import com.admin.dashboard.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token: the previous
+ * validate-then-parse path that rebuilt the key and parser on each call,
+ * a single verification with the shared parser (cache miss), and a cache hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtUtil jwtUtil;
+    private JwtParser sharedParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 86_400_000L, 10_000, 300_000);
+        sharedParser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build();
+        token = jwtUtil.generateJwtToken("john@example.com");
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateJwtToken("john@example.com");
+    }
+
+    @Benchmark
+    public String legacyValidateThenParse() {
+        SecretKey validateKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Jwts.parser().verifyWith(validateKey).build().parseSignedClaims(token);
+        SecretKey parseKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parser().verifyWith(parseKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Claims verifyWithSharedParser() {
+        return sharedParser.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Optional<Claims> parseClaimsCached() {
+        return jwtUtil.parseClaims(token);
+    }
+}
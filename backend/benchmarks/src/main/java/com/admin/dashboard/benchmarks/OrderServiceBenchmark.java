@@ -0,0 +1,85 @@
+package com.admin.dashboard.benchmarks;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.OrderItem;
+import com.admin.dashboard.entity.Product;
+import com.admin.dashboard.repository.ProductRepository;
+import com.admin.dashboard.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderService#createOrder}: the line-item total on its own, and the
+ * whole call (insert, sales increments, counters, snapshot, search index and
+ * rollups) against in-memory H2.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int items;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private List<Product> products;
+    private List<OrderItem> lineItems;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = InMemoryBackend.start();
+        orderService = context.getBean(OrderService.class);
+        products = context.getBean(ProductRepository.class).findAll();
+        lineItems = newOrder().getOrderItems();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private Order newOrder() {
+        Order order = new Order("Benchmark Customer", BigDecimal.ONE, Order.Status.PENDING);
+        for (int i = 0; i < items; i++) {
+            Product product = products.get(i % products.size());
+            order.getOrderItems().add(new OrderItem(order, product, 1 + i % 3, product.getPrice()));
+        }
+        return order;
+    }
+
+    /**
+     * The same stream reduction createOrder applies before saving.
+     */
+    @Benchmark
+    public BigDecimal total() {
+        return lineItems.stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder(newOrder());
+    }
+}
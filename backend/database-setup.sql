@@ -42,15 +42,16 @@ CREATE TABLE IF NOT EXISTS products (
     stock INT NOT NULL DEFAULT 0,
     sales INT DEFAULT 0,
     image_url TEXT,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_category (category),
     INDEX idx_stock (stock)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
--- Orders table
+-- Orders table (ids come from orders_seq so inserts can be batched)
 CREATE TABLE IF NOT EXISTS orders (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     order_id VARCHAR(50) UNIQUE,
     customer VARCHAR(255) NOT NULL,
     total DECIMAL(10,2) NOT NULL,
@@ -63,9 +64,9 @@ CREATE TABLE IF NOT EXISTS orders (
     INDEX idx_order_date (order_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
--- Order Items table (for order details)
+-- Order Items table (for order details, ids from order_items_seq)
 CREATE TABLE IF NOT EXISTS order_items (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     order_id BIGINT NOT NULL,
     product_id BIGINT NOT NULL,
     quantity INT NOT NULL,
@@ -77,6 +78,19 @@ CREATE TABLE IF NOT EXISTS order_items (
     INDEX idx_product_id (product_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- Pooled id sequences for orders and order items (MySQL emulates sequences with
+-- single-row tables; Hibernate reserves 50 ids per round trip). When migrating
+-- existing data, seed next_val with MAX(id) + 1 of the matching table.
+CREATE TABLE IF NOT EXISTS orders_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+INSERT INTO orders_seq (next_val) SELECT 1 WHERE NOT EXISTS (SELECT * FROM orders_seq);
+
+CREATE TABLE IF NOT EXISTS order_items_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+INSERT INTO order_items_seq (next_val) SELECT 1 WHERE NOT EXISTS (SELECT * FROM order_items_seq);
+
 -- Sales Data table
 CREATE TABLE IF NOT EXISTS sales_data (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -87,6 +101,25 @@ CREATE TABLE IF NOT EXISTS sales_data (
     INDEX idx_date (date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- Order rollup tables (pre-aggregated count/revenue per bucket and status)
+CREATE TABLE IF NOT EXISTS order_rollup_hourly (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    bucket_start DATETIME(6) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    order_count BIGINT NOT NULL,
+    revenue DECIMAL(15,2) NOT NULL,
+    UNIQUE KEY uk_hourly_bucket_status (bucket_start, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS order_rollup_daily (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    bucket_start DATETIME(6) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    order_count BIGINT NOT NULL,
+    revenue DECIMAL(15,2) NOT NULL,
+    UNIQUE KEY uk_daily_bucket_status (bucket_start, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- 4. Test the connection
 SELECT 'Database setup completed successfully!' AS message;
 
@@ -0,0 +1,188 @@
+package com.admin.dashboard.loadtest;
+
+import com.admin.dashboard.entity.Order;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Writes a deterministic, size-parameterized data set in the CSV fixture
+ * format read by the backend's {@code SeedDataLoader} ({@code seed.fixture-dir}).
+ *
+ * <p>Order customers are drawn from the generated user names and order items
+ * from a skewed product distribution, so searches hit realistic match counts
+ * and a few products dominate the top sellers. The same sizes and seed always
+ * produce the same files.
+ */
+public class DatasetGenerator {
+
+    /** Seeded admin account the harness logs in with. */
+    public static final String ADMIN_EMAIL = "loadtest@example.com";
+    public static final String ADMIN_PASSWORD = "loadtest123";
+
+    static final List<String> FIRST_NAMES = List.of(
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Sandra", "Steven", "Ashley");
+    static final List<String> LAST_NAMES = List.of(
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson");
+    static final List<String> CATEGORIES = List.of(
+            "Electronics", "Accessories", "Fitness", "Home", "Books", "Clothing", "Toys", "Garden");
+    private static final List<String> ADJECTIVES = List.of(
+            "Wireless", "Compact", "Premium", "Classic", "Smart", "Portable", "Deluxe", "Eco", "Pro", "Ultra");
+    private static final List<String> NOUNS = List.of(
+            "Earbuds", "Wallet", "Watch", "Yoga Mat", "Coffee Maker", "Backpack", "Lamp", "Speaker", "Jacket",
+            "Blender", "Notebook", "Kettle", "Drone", "Headphones", "Planter", "Puzzle");
+    private static final Order.Status[] STATUSES = Order.Status.values();
+
+    private final int users;
+    private final int products;
+    private final int orders;
+    private final int maxItemsPerOrder;
+    private final int days;
+    private final long seed;
+
+    public DatasetGenerator(int users, int products, int orders, int maxItemsPerOrder, int days, long seed) {
+        if (products < 1 && orders > 0 && maxItemsPerOrder > 0) {
+            throw new IllegalArgumentException("Orders with items need at least one product");
+        }
+        this.users = users;
+        this.products = products;
+        this.orders = orders;
+        this.maxItemsPerOrder = maxItemsPerOrder;
+        this.days = Math.max(1, days);
+        this.seed = seed;
+    }
+
+    /**
+     * Directory name that identifies this data set, so generated files can be
+     * reused across runs with the same parameters.
+     */
+    public String name() {
+        return "u" + users + "-p" + products + "-o" + orders + "-i" + maxItemsPerOrder + "-d" + days + "-s" + seed;
+    }
+
+    /**
+     * Writes users.csv, products.csv, orders.csv and sales_data.csv into {@code dir},
+     * unless a previous run already completed there.
+     *
+     * @return true when files were written, false when they were reused
+     */
+    public boolean generate(Path dir) throws IOException {
+        Path marker = dir.resolve(".complete");
+        if (Files.exists(marker)) {
+            return false;
+        }
+        Files.createDirectories(dir);
+        BigDecimal[] prices = writeProducts(dir.resolve("products.csv"));
+        writeUsers(dir.resolve("users.csv"));
+        writeOrders(dir.resolve("orders.csv"), prices);
+        writeSalesData(dir.resolve("sales_data.csv"));
+        Files.createFile(marker);
+        return true;
+    }
+
+    private void writeUsers(Path file) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("name,email,password,role,status\n");
+            out.write("Load Test," + ADMIN_EMAIL + "," + ADMIN_PASSWORD + ",ADMIN,ACTIVE\n");
+            for (int i = 1; i < users; i++) {
+                String name = personName(i);
+                String role = random.nextInt(100) < 5 ? "ADMIN" : random.nextInt(100) < 10 ? "MODERATOR" : "CUSTOMER";
+                String status = random.nextInt(100) < 15 ? "INACTIVE" : "ACTIVE";
+                // One shared password keeps seeding to a single BCrypt hash
+                out.write(name + ",user" + i + "@example.com,password123," + role + "," + status + "\n");
+            }
+        }
+    }
+
+    private BigDecimal[] writeProducts(Path file) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        BigDecimal[] prices = new BigDecimal[products];
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("name,category,price,stock,sales,image_url\n");
+            for (int i = 0; i < products; i++) {
+                String name = ADJECTIVES.get(random.nextInt(ADJECTIVES.size())) + " "
+                        + NOUNS.get(random.nextInt(NOUNS.size())) + " " + (i + 1);
+                prices[i] = BigDecimal.valueOf(499 + random.nextInt(49_500), 2);
+                out.write(name + "," + CATEGORIES.get(i % CATEGORIES.size()) + "," + prices[i] + ","
+                        + random.nextInt(500) + "," + random.nextInt(2_000) + ",\n");
+            }
+        }
+        return prices;
+    }
+
+    private void writeOrders(Path file, BigDecimal[] prices) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed + 2);
+        LocalDateTime end = LocalDate.now().atStartOfDay();
+        long spanMinutes = days * 24L * 60;
+        StringBuilder items = new StringBuilder();
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("order_id,customer,status,order_date,total,items\n");
+            for (int i = 0; i < orders; i++) {
+                items.setLength(0);
+                BigDecimal total = BigDecimal.ZERO;
+                int count = maxItemsPerOrder > 0 ? 1 + random.nextInt(maxItemsPerOrder) : 0;
+                for (int j = 0; j < count; j++) {
+                    int product = skewedIndex(random, products);
+                    int quantity = 1 + random.nextInt(3);
+                    if (j > 0) {
+                        items.append('|');
+                    }
+                    items.append(product + 1).append(':').append(quantity).append(':').append(prices[product]);
+                    total = total.add(prices[product].multiply(BigDecimal.valueOf(quantity)));
+                }
+                if (count == 0) {
+                    total = BigDecimal.valueOf(500 + random.nextInt(100_000), 2);
+                }
+                LocalDateTime orderDate = end.minusMinutes(1 + random.nextLong(spanMinutes));
+                // Empty order_id: the backend assigns one on insert
+                out.write("," + personName(1 + random.nextInt(Math.max(1, users - 1))) + ","
+                        + STATUSES[random.nextInt(STATUSES.length)] + "," + orderDate + "," + total + ","
+                        + items + "\n");
+            }
+        }
+    }
+
+    private void writeSalesData(Path file) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed + 3);
+        LocalDate firstMonth = LocalDate.now().withDayOfMonth(1).minusMonths(Math.max(1, days / 30));
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("month,sales,date,category\n");
+            for (LocalDate month = firstMonth; !month.isAfter(LocalDate.now()); month = month.plusMonths(1)) {
+                String label = month.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+                for (String category : CATEGORIES) {
+                    BigDecimal sales = BigDecimal.valueOf(1_000 + random.nextInt(9_000))
+                            .setScale(2, RoundingMode.UNNECESSARY);
+                    out.write(label + "," + sales + "," + month + "," + category + "\n");
+                }
+            }
+        }
+    }
+
+    static String personName(int i) {
+        return FIRST_NAMES.get(i % FIRST_NAMES.size()) + " " + LAST_NAMES.get((i / FIRST_NAMES.size()) % LAST_NAMES.size());
+    }
+
+    /**
+     * Index in [0, size) with roughly quadratic skew towards 0.
+     */
+    private static int skewedIndex(SplittableRandom random, int size) {
+        double u = random.nextDouble();
+        return Math.min(size - 1, (int) (u * u * size));
+    }
+}
@@ -0,0 +1,345 @@
+package com.admin.dashboard.loadtest;
+
+import com.admin.dashboard.DashboardApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generates a synthetic data set, boots the backend against an in-memory H2
+ * database seeded from it, and replays a weighted mix of the hot endpoints
+ * from {@code --concurrency} workers. Prints throughput and latency
+ * percentiles per scenario, writes them as JSON to {@code --report} together
+ * with full HdrHistogram distributions, and exits with status 1 when a
+ * {@code --max-p99} or {@code --max-error-rate} gate is exceeded.
+ *
+ * <p>Without {@code --rate} each worker sends its next request as soon as the
+ * previous one returns (closed loop). With {@code --rate} requests are
+ * scheduled at a fixed total rate and latency is measured from the scheduled
+ * send time, so a stalled server shows up in the percentiles instead of
+ * silently lowering the request count.
+ *
+ * <p>With {@code --base-url} the harness skips the embedded backend and drives
+ * an already running instance, which must accept the seeded admin login.
+ */
+public class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String JWT_SECRET = "loadtest-secret-loadtest-secret-loadtest-secret-loadtest-secret";
+    private static final int MIN_ORDER_STOCK = 100;
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+
+    LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        DatasetGenerator dataset = options.dataset();
+        Path dataDir = options.dataDir.resolve(dataset.name()).toAbsolutePath();
+        long started = System.currentTimeMillis();
+        boolean written = dataset.generate(dataDir);
+        System.out.println((written ? "Generated data set in " : "Reusing data set in ") + dataDir
+                + " (" + (System.currentTimeMillis() - started) + " ms)");
+        if (options.generateOnly) {
+            return;
+        }
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl;
+        if (baseUrl == null) {
+            context = startBackend(options, dataDir);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port + "/api";
+        }
+
+        boolean passed;
+        try {
+            passed = new LoadTest(options).run(baseUrl, dataset.name());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Runs the backend in this JVM on a random port. Seeding from the fixtures
+     * happens in the backend's startup runners, so it is done when this returns.
+     */
+    private static ConfigurableApplicationContext startBackend(LoadTestOptions options, Path dataDir) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;NON_KEYWORDS=MONTH,DATE");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", String.valueOf(Math.max(10, options.concurrency)));
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.com.admin.dashboard", "INFO");
+        properties.put("jwt.secret", JWT_SECRET);
+        properties.put("seed.fixture-dir", dataDir.toString());
+        // Requests over their SQL statement budget fail and count against --max-error-rate
+        properties.put("metrics.n-plus-one.enforce", "true");
+        properties.putAll(options.springProperties);
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+        long started = System.currentTimeMillis();
+        ConfigurableApplicationContext context = SpringApplication.run(DashboardApplication.class, args.toArray(new String[0]));
+        System.out.println("Backend started and seeded in " + (System.currentTimeMillis() - started) + " ms");
+        return context;
+    }
+
+    boolean run(String baseUrl, String datasetName) throws Exception {
+        Scenario.Target probe = new Scenario.Target(baseUrl, login(baseUrl), List.of(), options.timeout);
+        Scenario.Target target = new Scenario.Target(baseUrl, probe.token(), productIds(probe), options.timeout);
+
+        if (!options.warmup.isZero()) {
+            System.out.println("Warming up for " + options.warmup.toSeconds() + " s");
+            runPhase(target, options.warmup);
+        }
+        System.out.println("Measuring for " + options.duration.toSeconds() + " s with " + options.concurrency
+                + " workers" + (options.rate > 0 ? " at " + options.rate + " req/s" : " (closed loop)"));
+        long started = System.nanoTime();
+        Map<Scenario, ScenarioStats> stats = runPhase(target, options.duration);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        printSummary(System.out, stats, seconds);
+        writeReport(stats, seconds, baseUrl, datasetName);
+        return checkGates(stats);
+    }
+
+    private String login(String baseUrl) throws IOException, InterruptedException {
+        String body = JSON.writeValueAsString(Map.of(
+                "email", DatasetGenerator.ADMIN_EMAIL, "password", DatasetGenerator.ADMIN_PASSWORD));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .timeout(options.timeout)
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + DatasetGenerator.ADMIN_EMAIL + " failed with "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return JSON.readTree(response.body()).path("token").asText();
+    }
+
+    /**
+     * Product ids that new orders may reference, read from the server so the
+     * harness also works against a database it did not seed. Only products
+     * with stock to spare are used, as orders for sold-out ones get a 409.
+     */
+    private List<Long> productIds(Scenario.Target target) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(target.get("/products/top-selling?limit=1000").build(),
+                HttpResponse.BodyHandlers.ofString());
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode product : JSON.readTree(response.body())) {
+            if (product.path("stock").asInt() >= MIN_ORDER_STOCK) {
+                ids.add(product.path("id").asLong());
+            }
+        }
+        if (ids.isEmpty() && options.mix.containsKey(Scenario.CREATE_ORDER)) {
+            throw new IllegalStateException("create-order needs at least one product with " + MIN_ORDER_STOCK + " in stock");
+        }
+        return ids;
+    }
+
+    private Map<Scenario, ScenarioStats> runPhase(Scenario.Target target, Duration duration) throws InterruptedException {
+        int workers = options.concurrency;
+        List<Map<Scenario, ScenarioStats>> perWorker = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(workers);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intervalNanos = options.rate > 0 ? (long) (workers * 1e9 / options.rate) : 0;
+
+        for (int w = 0; w < workers; w++) {
+            Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+            options.mix.keySet().forEach(scenario -> stats.put(scenario, new ScenarioStats()));
+            perWorker.add(stats);
+            SplittableRandom random = new SplittableRandom(options.seed * 31 + w);
+            long firstSend = start + intervalNanos * w / workers;
+            Thread thread = new Thread(() -> {
+                try {
+                    work(target, random, stats, firstSend, intervalNanos, end);
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-" + w);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        Map<Scenario, ScenarioStats> merged = new EnumMap<>(Scenario.class);
+        options.mix.keySet().forEach(scenario -> merged.put(scenario, new ScenarioStats()));
+        perWorker.forEach(stats -> stats.forEach((scenario, s) -> merged.get(scenario).add(s)));
+        return merged;
+    }
+
+    private void work(Scenario.Target target, SplittableRandom random, Map<Scenario, ScenarioStats> stats,
+                      long firstSend, long intervalNanos, long end) {
+        int totalWeight = options.mix.values().stream().mapToInt(Integer::intValue).sum();
+        long scheduled = firstSend;
+        while (true) {
+            long sendAt = intervalNanos > 0 ? scheduled : System.nanoTime();
+            if (sendAt >= end) {
+                return;
+            }
+            while (intervalNanos > 0 && System.nanoTime() < sendAt) {
+                LockSupport.parkNanos(sendAt - System.nanoTime());
+            }
+            scheduled += intervalNanos;
+
+            Scenario scenario = pick(random, totalWeight);
+            HttpRequest request = scenario.request(target, random).build();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                long elapsed = System.nanoTime() - sendAt;
+                if (response.statusCode() / 100 == 2) {
+                    stats.get(scenario).recordSuccess(elapsed);
+                } else {
+                    stats.get(scenario).recordError(elapsed, request.method() + " " + request.uri().getRawPath()
+                            + " -> " + response.statusCode() + " " + abbreviate(response.body()));
+                }
+            } catch (IOException e) {
+                stats.get(scenario).recordError(System.nanoTime() - sendAt, e.toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Scenario pick(SplittableRandom random, int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : options.mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty traffic mix");
+    }
+
+    private static void printSummary(PrintStream out, Map<Scenario, ScenarioStats> stats, double seconds) {
+        out.println();
+        out.printf("%-14s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        ScenarioStats total = new ScenarioStats();
+        stats.forEach((scenario, s) -> {
+            printRow(out, scenario.label(), s, seconds);
+            total.add(s);
+        });
+        printRow(out, "total", total, seconds);
+        stats.forEach((scenario, s) -> {
+            if (s.firstError != null) {
+                out.println("First " + scenario.label() + " error: " + s.firstError);
+            }
+        });
+        out.println();
+    }
+
+    private static void printRow(PrintStream out, String label, ScenarioStats s, double seconds) {
+        out.printf("%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", label, s.requests(), s.errors,
+                s.requests() / seconds, s.percentileMillis(50), s.percentileMillis(90), s.percentileMillis(99),
+                s.percentileMillis(99.9), s.latency.getMaxValue() / 1_000.0);
+    }
+
+    private void writeReport(Map<Scenario, ScenarioStats> stats, double seconds, String baseUrl, String datasetName)
+            throws IOException {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("dataset", datasetName);
+        config.put("target", options.baseUrl == null ? "embedded H2" : baseUrl);
+        config.put("concurrency", options.concurrency);
+        config.put("rate", options.rate);
+        config.put("warmupSeconds", options.warmup.toSeconds());
+        config.put("durationSeconds", seconds);
+        Map<String, Object> mix = new LinkedHashMap<>();
+        options.mix.forEach((scenario, weight) -> mix.put(scenario.label(), weight));
+        config.put("mix", mix);
+        config.put("springProperties", options.springProperties);
+
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        ScenarioStats total = new ScenarioStats();
+        stats.forEach((scenario, s) -> {
+            scenarios.put(scenario.label(), s.toReport(seconds));
+            total.add(s);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("scenarios", scenarios);
+        report.put("total", total.toReport(seconds));
+
+        Path file = options.report.toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        JSON.writeValue(file.toFile(), report);
+
+        // Full distributions, plottable with HdrHistogram's histogram plotter
+        String base = file.getFileName().toString().replaceFirst("\\.json$", "");
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            Path hgrm = file.resolveSibling(base + "-" + entry.getKey().label() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                entry.getValue().latency.outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+        System.out.println("Wrote " + file);
+    }
+
+    private boolean checkGates(Map<Scenario, ScenarioStats> stats) {
+        boolean passed = true;
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            String label = entry.getKey().label();
+            ScenarioStats s = entry.getValue();
+            if (s.errorRate() > options.maxErrorRate) {
+                System.out.printf("FAILED %s: error rate %.2f%% exceeds %.2f%%%n",
+                        label, s.errorRate() * 100, options.maxErrorRate * 100);
+                passed = false;
+            }
+            Double maxP99 = options.maxP99Millis.get(entry.getKey());
+            if (maxP99 != null && s.percentileMillis(99) > maxP99) {
+                System.out.printf("FAILED %s: p99 %.2f ms exceeds %.2f ms%n", label, s.percentileMillis(99), maxP99);
+                passed = false;
+            }
+        }
+        return passed;
+    }
+
+    private static String abbreviate(String body) {
+        return body.length() <= 200 ? body : body.substring(0, 200) + "...";
+    }
+}
@@ -0,0 +1,131 @@
+package com.admin.dashboard.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command-line options in {@code --name=value} form. Options the harness does
+ * not recognise are passed through to the embedded backend, so any Spring
+ * property can be overridden for a run (e.g. {@code --dashboard.fanout.mode=sequential}).
+ */
+class LoadTestOptions {
+
+    // Data set
+    int users = 5_000;
+    int products = 500;
+    int orders = 20_000;
+    int maxItemsPerOrder = 4;
+    int days = 365;
+    long seed = 42;
+    Path dataDir = Path.of("target", "loadtest-data");
+    boolean generateOnly;
+
+    // Traffic
+    String baseUrl;
+    int concurrency = 8;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(30);
+    double rate;
+    Duration timeout = Duration.ofSeconds(10);
+    Map<Scenario, Integer> mix = parseMix("overview:30,search:40,top-selling:20,create-order:10");
+
+    // Reporting and gates
+    Path report = Path.of("target", "loadtest-report.json");
+    Map<Scenario, Double> maxP99Millis = new EnumMap<>(Scenario.class);
+    double maxErrorRate = 0.01;
+
+    final Map<String, String> springProperties = new LinkedHashMap<>();
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg.substring(2) : arg.substring(2, eq);
+            String value = eq < 0 ? "true" : arg.substring(eq + 1);
+            switch (name) {
+                case "users" -> options.users = Integer.parseInt(value);
+                case "products" -> options.products = Integer.parseInt(value);
+                case "orders" -> options.orders = Integer.parseInt(value);
+                case "max-items" -> options.maxItemsPerOrder = Integer.parseInt(value);
+                case "days" -> options.days = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "data-dir" -> options.dataDir = Path.of(value);
+                case "generate-only" -> options.generateOnly = Boolean.parseBoolean(value);
+                case "base-url" -> options.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "warmup" -> options.warmup = parseDuration(value);
+                case "duration" -> options.duration = parseDuration(value);
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "timeout" -> options.timeout = parseDuration(value);
+                case "mix" -> options.mix = parseMix(value);
+                case "report" -> options.report = Path.of(value);
+                case "max-p99" -> parsePairs(value).forEach((scenario, millis) ->
+                        options.maxP99Millis.put(scenario, Double.parseDouble(millis)));
+                case "max-error-rate" -> options.maxErrorRate = Double.parseDouble(value);
+                default -> options.springProperties.put(name, value);
+            }
+        }
+        if (options.concurrency < 1) {
+            throw new IllegalArgumentException("--concurrency must be at least 1");
+        }
+        return options;
+    }
+
+    DatasetGenerator dataset() {
+        return new DatasetGenerator(users, products, orders, maxItemsPerOrder, days, seed);
+    }
+
+    /**
+     * {@code 30s}, {@code 2m}, {@code 500ms}, or plain seconds.
+     */
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * {@code overview:30,search:40} as relative weights; scenarios left out are not sent.
+     */
+    static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        parsePairs(value).forEach((scenario, weight) -> {
+            int w = Integer.parseInt(weight);
+            if (w > 0) {
+                mix.put(scenario, w);
+            }
+        });
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one scenario with a positive weight");
+        }
+        return mix;
+    }
+
+    private static Map<Scenario, String> parsePairs(String value) {
+        Map<Scenario, String> pairs = new EnumMap<>(Scenario.class);
+        for (String pair : value.split(",")) {
+            String[] parts = pair.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:value but got '" + pair + "'");
+            }
+            pairs.put(Scenario.fromLabel(parts[0].trim()), parts[1].trim());
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,103 @@
+package com.admin.dashboard.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The hot endpoints the harness replays, each named as it appears in
+ * {@code --mix} and in the report.
+ */
+enum Scenario {
+
+    OVERVIEW("overview") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            return target.get("/dashboard/overview");
+        }
+    },
+
+    ORDER_SEARCH("search") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            // Mostly broad last-name terms, some full names and a few misses
+            int pick = random.nextInt(10);
+            String term = pick < 6
+                    ? DatasetGenerator.LAST_NAMES.get(random.nextInt(DatasetGenerator.LAST_NAMES.size()))
+                    : pick < 9 ? DatasetGenerator.personName(1 + random.nextInt(900)) : "zzq" + random.nextInt(1000);
+            return target.get("/orders?size=10&search=" + URLEncoder.encode(term, StandardCharsets.UTF_8));
+        }
+    },
+
+    TOP_SELLING("top-selling") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            return target.get("/products/top-selling?limit=10");
+        }
+    },
+
+    CREATE_ORDER("create-order") {
+        @Override
+        HttpRequest.Builder request(Target target, SplittableRandom random) {
+            StringBuilder body = new StringBuilder("{\"customer\":\"")
+                    .append(DatasetGenerator.personName(1 + random.nextInt(900)))
+                    .append("\",\"status\":\"PENDING\",\"total\":1,\"orderItems\":[");
+            int items = 1 + random.nextInt(3);
+            for (int i = 0; i < items; i++) {
+                long productId = target.productIds().get(random.nextInt(target.productIds().size()));
+                body.append(i > 0 ? "," : "")
+                        .append("{\"product\":{\"id\":").append(productId)
+                        .append("},\"quantity\":").append(1 + random.nextInt(3))
+                        .append(",\"price\":").append(5 + random.nextInt(200)).append(".99}");
+            }
+            body.append("]}");
+            return target.post("/orders", body.toString());
+        }
+    };
+
+    private final String label;
+
+    Scenario(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    abstract HttpRequest.Builder request(Target target, SplittableRandom random);
+
+    static Scenario fromLabel(String label) {
+        for (Scenario scenario : values()) {
+            if (scenario.label.equals(label)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario '" + label + "', expected one of overview, search, top-selling, create-order");
+    }
+
+    /**
+     * Base URL, bearer token and the product ids new orders may reference.
+     */
+    record Target(String baseUrl, String token, List<Long> productIds, Duration timeout) {
+
+        HttpRequest.Builder get(String path) {
+            return builder(path).GET();
+        }
+
+        HttpRequest.Builder post(String path, String json) {
+            return builder(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json));
+        }
+
+        private HttpRequest.Builder builder(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+            return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+        }
+    }
+}
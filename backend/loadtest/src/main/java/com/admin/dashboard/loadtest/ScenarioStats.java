@@ -0,0 +1,76 @@
+package com.admin.dashboard.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram (microseconds) and error count for one scenario. Each
+ * worker records into its own instance; they are merged once the phase ends.
+ */
+class ScenarioStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    final Histogram latency = new Histogram(MAX_TRACKABLE_MICROS, 3);
+    long errors;
+    String firstError;
+
+    void recordSuccess(long nanos) {
+        latency.recordValue(Math.min(MAX_TRACKABLE_MICROS, Math.max(1, nanos / 1_000)));
+    }
+
+    void recordError(long nanos, String description) {
+        recordSuccess(nanos);
+        errors++;
+        if (firstError == null) {
+            firstError = description;
+        }
+    }
+
+    void add(ScenarioStats other) {
+        latency.add(other.latency);
+        errors += other.errors;
+        if (firstError == null) {
+            firstError = other.firstError;
+        }
+    }
+
+    long requests() {
+        return latency.getTotalCount();
+    }
+
+    double errorRate() {
+        return requests() == 0 ? 0 : (double) errors / requests();
+    }
+
+    double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    Map<String, Object> toReport(double seconds) {
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("mean", round(latency.getMean() / 1_000.0));
+        latencyMs.put("p50", percentileMillis(50));
+        latencyMs.put("p90", percentileMillis(90));
+        latencyMs.put("p99", percentileMillis(99));
+        latencyMs.put("p99.9", percentileMillis(99.9));
+        latencyMs.put("max", latency.getMaxValue() / 1_000.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", requests());
+        report.put("errors", errors);
+        report.put("throughput", round(requests() / seconds));
+        report.put("latencyMs", latencyMs);
+        if (firstError != null) {
+            report.put("firstError", firstError);
+        }
+        return report;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
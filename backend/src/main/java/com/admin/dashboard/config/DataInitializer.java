@@ -2,19 +2,32 @@ package com.admin.dashboard.config;
 
 import com.admin.dashboard.entity.*;
 import com.admin.dashboard.repository.*;
+import com.admin.dashboard.service.OrderRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Component
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -28,28 +41,92 @@ public class DataInitializer implements CommandLineRunner {
     private SalesDataRepository salesDataRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private SeedDataLoader seedDataLoader;
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Value("${seed.fixture-dir:}")
+    private String fixtureDir;
 
     @Override
     public void run(String... args) throws Exception {
-        initializeUsers();
-        initializeProducts();
-        initializeOrders();
-        initializeSalesData();
+        // The four tables are independent (sample orders carry no items), so seed them concurrently
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            if (fixtureDir.isBlank()) {
+                CompletableFuture.allOf(
+                        CompletableFuture.runAsync(this::initializeUsers, executor),
+                        CompletableFuture.runAsync(this::initializeProducts, executor),
+                        CompletableFuture.runAsync(this::initializeOrders, executor),
+                        CompletableFuture.runAsync(this::initializeSalesData, executor)
+                ).join();
+            } else {
+                loadFixtures(Path.of(fixtureDir), executor);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Seeds empty tables from the CSV fixtures in {@code dir}. Fixture order
+     * items reference products, so orders wait for products; everything else
+     * runs in parallel. Fixture orders bypass the rollup upserts, so the rollups
+     * are rebuilt once they are in, whatever rows the rollup tables already hold.
+     */
+    private void loadFixtures(Path dir, ExecutorService executor) {
+        long started = System.currentTimeMillis();
+        CompletableFuture<Void> users = CompletableFuture.runAsync(() -> {
+            Path file = dir.resolve("users.csv");
+            if (Files.exists(file) && userRepository.count() == 0) {
+                log.info("Seeded {} users from {}{}", seedDataLoader.loadUsers(file), file, elapsedSince(started));
+            }
+        }, executor);
+        CompletableFuture<Void> productsAndOrders = CompletableFuture.supplyAsync(() -> {
+            Path file = dir.resolve("products.csv");
+            if (Files.exists(file) && productRepository.count() == 0) {
+                List<Long> productIds = seedDataLoader.loadProducts(file);
+                log.info("Seeded {} products from {}{}", productIds.size(), file, elapsedSince(started));
+                return productIds;
+            }
+            return productRepository.findAll(Sort.by("id")).stream().map(Product::getId).toList();
+        }, executor).thenAccept(productIds -> {
+            Path file = dir.resolve("orders.csv");
+            if (Files.exists(file) && orderRepository.count() == 0) {
+                log.info("Seeded {} orders from {}{}", seedDataLoader.loadOrders(file, productIds), file, elapsedSince(started));
+                orderRollupService.rebuild();
+            }
+        });
+        CompletableFuture<Void> salesData = CompletableFuture.runAsync(() -> {
+            Path file = dir.resolve("sales_data.csv");
+            if (Files.exists(file) && salesDataRepository.count() == 0) {
+                log.info("Seeded {} sales data rows from {}{}", seedDataLoader.loadSalesData(file), file, elapsedSince(started));
+            }
+        }, executor);
+
+        CompletableFuture.allOf(users, productsAndOrders, salesData).join();
+        log.info("Fixture seeding finished{}", elapsedSince(started));
+    }
+
+    private static String elapsedSince(long started) {
+        return " (" + (System.currentTimeMillis() - started) + " ms)";
     }
 
     private void initializeUsers() {
         if (userRepository.count() == 0) {
+            Map<String, String> hashes = seedDataLoader.hashPasswords(List.of("admin123", "password123"));
+
             // Main admin account
-            User mainAdmin = new User("Admin User", "admin@example.com", passwordEncoder.encode("admin123"), User.Role.ADMIN);
+            User mainAdmin = new User("Admin User", "admin@example.com", hashes.get("admin123"), User.Role.ADMIN);
 
             // Additional test users
-            User admin = new User("John Doe", "john@example.com", passwordEncoder.encode("password123"), User.Role.ADMIN);
-            User jane = new User("Jane Smith", "jane@example.com", passwordEncoder.encode("password123"), User.Role.ADMIN);
-            User bob = new User("Bob Johnson", "bob@example.com", passwordEncoder.encode("password123"), User.Role.CUSTOMER);
+            User admin = new User("John Doe", "john@example.com", hashes.get("password123"), User.Role.ADMIN);
+            User jane = new User("Jane Smith", "jane@example.com", hashes.get("password123"), User.Role.ADMIN);
+            User bob = new User("Bob Johnson", "bob@example.com", hashes.get("password123"), User.Role.CUSTOMER);
             bob.setStatus(User.Status.INACTIVE);
-            User alice = new User("Alice Brown", "alice@example.com", passwordEncoder.encode("password123"), User.Role.CUSTOMER);
-            User charlie = new User("Charlie Wilson", "charlie@example.com", passwordEncoder.encode("password123"), User.Role.MODERATOR);
+            User alice = new User("Alice Brown", "alice@example.com", hashes.get("password123"), User.Role.CUSTOMER);
+            User charlie = new User("Charlie Wilson", "charlie@example.com", hashes.get("password123"), User.Role.MODERATOR);
 
             userRepository.saveAll(Arrays.asList(mainAdmin, admin, jane, bob, alice, charlie));
 
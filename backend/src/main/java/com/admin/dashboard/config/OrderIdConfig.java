@@ -0,0 +1,45 @@
+package com.admin.dashboard.config;
+
+import com.admin.dashboard.util.OrderIdGenerator;
+import com.admin.dashboard.util.SnowflakeOrderIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+@Configuration
+public class OrderIdConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIdConfig.class);
+
+    @Value("${orders.id.node-id:-1}")
+    private long nodeId;
+
+    @Bean
+    public OrderIdGenerator orderIdGenerator() {
+        long node = nodeId >= 0 ? nodeId : derivedNodeId();
+        log.info("Order ids generated with node id {}", node);
+        return new SnowflakeOrderIdGenerator(node);
+    }
+
+    /**
+     * Fallback for single-instance setups. Multiple instances should each set
+     * ORDER_ID_NODE_ID explicitly, since a hash can collide.
+     */
+    private static long derivedNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "localhost";
+        }
+        String identity = host + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        log.warn("orders.id.node-id is not set; deriving it from {}", identity);
+        return (identity.hashCode() & Integer.MAX_VALUE) % (SnowflakeOrderIdGenerator.MAX_NODE_ID + 1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.admin.dashboard.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Two schedulers. {@code taskScheduler} (sized by
+ * {@code spring.task.scheduling.pool.size}) runs the periodic reconcile and
+ * rebuild jobs, which scan whole tables. {@code realtimeScheduler} runs the
+ * short, frequent jobs (stream ticks, heartbeats, the replica lag check) so
+ * they never wait behind one of those scans. Jobs choose it with
+ * {@code @Scheduled(scheduler = REALTIME)}.
+ *
+ * <p>Schedulers are executors too, so declaring them turns off Boot's
+ * {@code applicationTaskExecutor}; it is declared here as well, sized by
+ * {@code spring.task.execution.*}, for async MVC requests, streamed exports
+ * and other work handed off from request threads.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String REALTIME = "realtimeScheduler";
+
+    @Value("${scheduling.realtime.pool-size:2}")
+    private int realtimePoolSize;
+
+    // Declared explicitly because a second TaskScheduler bean turns off Boot's default one
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(REALTIME)
+    public ThreadPoolTaskScheduler realtimeScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(realtimePoolSize);
+        scheduler.setThreadNamePrefix("realtime-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,227 @@
+package com.admin.dashboard.config;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.OrderItem;
+import com.admin.dashboard.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bulk seeding for large data sets, used by {@link DataInitializer} when
+ * {@code seed.fixture-dir} points at a directory of CSV fixtures:
+ *
+ * <pre>
+ * users.csv       name,email,password,role,status
+ * products.csv    name,category,price,stock,sales,image_url
+ * orders.csv      order_id,customer,status,order_date,total,items
+ * sales_data.csv  month,sales,date,category
+ * </pre>
+ *
+ * {@code items} is {@code product:quantity:price} entries separated by
+ * {@code |}, where {@code product} is the 1-based row of products.csv; when
+ * present it determines the order total. Each file has a header row and is
+ * optional. Users, products and sales data are written with JDBC batches;
+ * orders go through Hibernate, whose pooled sequence ids allow batched inserts.
+ */
+@Component
+public class SeedDataLoader {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public SeedDataLoader(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * BCrypt-hashes each distinct password once, spread across all cores. Seed
+     * users sharing a password therefore share a hash (and salt), which is fine
+     * for fixtures but is not how real accounts are created.
+     */
+    public Map<String, String> hashPasswords(Collection<String> passwords) {
+        Map<String, String> hashes = new ConcurrentHashMap<>();
+        passwords.stream().distinct().parallel()
+                .forEach(password -> hashes.put(password, passwordEncoder.encode(password)));
+        return hashes;
+    }
+
+    public int loadUsers(Path file) {
+        List<String[]> rows = readCsv(file);
+        Map<String, String> hashes = hashPasswords(rows.stream().map(row -> row[2]).toList());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insertBatches(
+                "INSERT INTO users (name, email, password, role, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows, row -> new Object[]{row[0], row[1], hashes.get(row[2]), row[3], row[4], now, now});
+    }
+
+    /**
+     * @return the new product ids in file order, for resolving order item references
+     */
+    public List<Long> loadProducts(Path file) {
+        List<String[]> rows = readCsv(file);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertBatches(
+                "INSERT INTO products (name, category, price, stock, sales, image_url, created_at, updated_at, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                rows, row -> new Object[]{row[0], row[1], new BigDecimal(row[2]), Integer.parseInt(row[3]),
+                        Integer.parseInt(row[4]), column(row, 5), now, now});
+        // Plain inserts bypass Hibernate, so nothing cached before this point reflects them
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Product.class);
+        cache.evictQueryRegions();
+        // Seeding only runs on an empty table, so ids ascend in insertion order
+        return jdbcTemplate.queryForList("SELECT id FROM products ORDER BY id", Long.class);
+    }
+
+    public int loadOrders(Path file, List<Long> productIds) {
+        List<String[]> rows = readCsv(file);
+        for (int start = 0; start < rows.size(); start += batchSize) {
+            List<String[]> chunk = rows.subList(start, Math.min(start + batchSize, rows.size()));
+            transactionTemplate.executeWithoutResult(tx -> {
+                for (String[] row : chunk) {
+                    entityManager.persist(toOrder(row, productIds));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return rows.size();
+    }
+
+    public int loadSalesData(Path file) {
+        return insertBatches(
+                "INSERT INTO sales_data (month, sales, date, category) VALUES (?, ?, ?, ?)",
+                readCsv(file), row -> new Object[]{row[0], new BigDecimal(row[1]),
+                        Date.valueOf(LocalDate.parse(row[2])), column(row, 3)});
+    }
+
+    private Order toOrder(String[] row, List<Long> productIds) {
+        Order order = new Order();
+        order.setOrderId(column(row, 0));
+        order.setCustomer(row[1]);
+        order.setStatus(Order.Status.valueOf(row[2]));
+        order.setOrderDate(LocalDateTime.parse(row[3]));
+
+        BigDecimal total = BigDecimal.ZERO;
+        String items = column(row, 5);
+        for (String entry : items == null ? new String[0] : items.split("\\|")) {
+            String[] parts = entry.split(":");
+            OrderItem item = new OrderItem(order,
+                    entityManager.getReference(Product.class, productIds.get(Integer.parseInt(parts[0]) - 1)),
+                    Integer.parseInt(parts[1]), new BigDecimal(parts[2]));
+            order.getOrderItems().add(item);
+            total = total.add(item.getTotalPrice());
+        }
+        order.setTotal(order.getOrderItems().isEmpty() ? new BigDecimal(row[4]) : total);
+        return order;
+    }
+
+    private int insertBatches(String sql, List<String[]> rows, Function<String[], Object[]> binder) {
+        List<Object[]> args = new ArrayList<>(Math.min(rows.size(), batchSize));
+        Consumer<List<Object[]>> flush = batch -> transactionTemplate.executeWithoutResult(
+                tx -> jdbcTemplate.batchUpdate(sql, batch));
+        for (String[] row : rows) {
+            args.add(binder.apply(row));
+            if (args.size() == batchSize) {
+                flush.accept(args);
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            flush.accept(args);
+        }
+        return rows.size();
+    }
+
+    private static List<String[]> readCsv(Path file) {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine(); // header
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    rows.add(parseLine(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read seed fixture " + file, e);
+        }
+        return rows;
+    }
+
+    /**
+     * Splits one CSV line; fields may be double-quoted, with "" as an escaped quote.
+     */
+    static String[] parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Optional trailing column, null when missing or empty.
+     */
+    private static String column(String[] row, int index) {
+        return index < row.length && !row[index].isEmpty() ? row[index] : null;
+    }
+}
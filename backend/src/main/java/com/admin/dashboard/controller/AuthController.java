@@ -3,79 +3,139 @@ package com.admin.dashboard.controller;
 import com.admin.dashboard.dto.AuthResponse;
 import com.admin.dashboard.dto.LoginRequest;
 import com.admin.dashboard.entity.User;
+import com.admin.dashboard.service.PasswordHashingService;
 import com.admin.dashboard.service.UserService;
 import com.admin.dashboard.util.JwtUtil;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/auth")
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private UserService userService;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    // Database writes and token signing continue here, keeping the hashing pool for hashing
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private AsyncTaskExecutor applicationTaskExecutor;
+
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
         Optional<User> userOpt = userService.getUserByEmail(loginRequest.getEmail());
 
         if (userOpt.isEmpty()) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("message", "User not found!"));
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(Map.of("message", "User not found!")));
         }
 
         User user = userOpt.get();
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("message", "Invalid credentials!"));
-        }
+        // BCrypt runs on the hashing pool; the servlet thread is released until it completes
+        return passwordHashingService.matches(loginRequest.getPassword(), user.getPassword())
+                .<ResponseEntity<?>>thenApplyAsync(matches -> {
+                    if (!matches) {
+                        return ResponseEntity.badRequest()
+                                .body(Map.of("message", "Invalid credentials!"));
+                    }
 
-        if (user.getStatus() != User.Status.ACTIVE) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("message", "Account is inactive!"));
-        }
+                    if (user.getStatus() != User.Status.ACTIVE) {
+                        return ResponseEntity.badRequest()
+                                .body(Map.of("message", "Account is inactive!"));
+                    }
+
+                    if (passwordHashingService.needsRehash(user.getPassword())) {
+                        rehashInBackground(user, loginRequest.getPassword());
+                    }
 
-        String jwt = jwtUtil.generateJwtToken(user.getEmail());
+                    String jwt = jwtUtil.generateJwtToken(user.getEmail());
 
-        return ResponseEntity.ok(new AuthResponse(jwt, user.getId(), user.getName(), user.getEmail(), user.getRole()));
+                    return ResponseEntity.ok(new AuthResponse(jwt, user.getId(), user.getName(), user.getEmail(), user.getRole()));
+                }, applicationTaskExecutor)
+                .exceptionally(AuthController::requestFailed);
     }
 
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody User user, BindingResult bindingResult) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@Valid @RequestBody User user, BindingResult bindingResult) {
         if (bindingResult.hasErrors()) {
             StringBuilder errorMessage = new StringBuilder();
             for (FieldError error : bindingResult.getFieldErrors()) {
                 errorMessage.append(error.getDefaultMessage()).append(". ");
             }
-            return ResponseEntity.badRequest()
-                    .body(Map.of("message", errorMessage.toString().trim()));
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(Map.of("message", errorMessage.toString().trim())));
+        }
+
+        // Cheap check first so taken emails don't cost a hash
+        if (userService.existsByEmail(user.getEmail())) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(Map.of("message", "Email already exists")));
         }
 
-        try {
-            User createdUser = userService.createUser(user);
-            String jwt = jwtUtil.generateJwtToken(createdUser.getEmail());
+        return passwordHashingService.encode(user.getPassword())
+                .<ResponseEntity<?>>thenApplyAsync(hash -> {
+                    user.setPassword(hash);
+                    User createdUser = userService.createUserWithEncodedPassword(user);
+                    String jwt = jwtUtil.generateJwtToken(createdUser.getEmail());
+
+                    return ResponseEntity.ok(new AuthResponse(jwt, createdUser.getId(),
+                            createdUser.getName(), createdUser.getEmail(), createdUser.getRole()));
+                }, applicationTaskExecutor)
+                .exceptionally(AuthController::requestFailed);
+    }
+
+    private void rehashInBackground(User user, String rawPassword) {
+        // If the pool is busy this fails fast and the next login tries again
+        passwordHashingService.encode(rawPassword)
+                .thenAcceptAsync(hash -> userService.rehashPassword(user.getId(), user.getPassword(), hash),
+                        applicationTaskExecutor)
+                .exceptionally(e -> {
+                    log.debug("Password rehash for user {} skipped: {}", user.getId(), e.getMessage());
+                    return null;
+                });
+    }
 
-            return ResponseEntity.ok(new AuthResponse(jwt, createdUser.getId(),
-                    createdUser.getName(), createdUser.getEmail(), createdUser.getRole()));
-        } catch (RuntimeException e) {
+    private static ResponseEntity<?> requestFailed(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("message", "Too many sign-in attempts, please retry shortly"));
+        }
+        // A registration that lost the race for its email after the existence check
+        if (cause instanceof DataIntegrityViolationException) {
             return ResponseEntity.badRequest()
-                    .body(Map.of("message", e.getMessage()));
+                    .body(Map.of("message", "Email already exists"));
         }
+        log.error("Authentication request failed", cause);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("message", "Something went wrong, please try again"));
     }
-}
\ No newline at end of file
+}
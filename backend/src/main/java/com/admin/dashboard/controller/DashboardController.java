@@ -1,16 +1,28 @@
 package com.admin.dashboard.controller;
 
+import com.admin.dashboard.entity.User;
+import com.admin.dashboard.service.DashboardQueryExecutor;
+import com.admin.dashboard.service.DashboardSnapshot;
+import com.admin.dashboard.service.DashboardSnapshotService;
+import com.admin.dashboard.service.DashboardStreamService;
 import com.admin.dashboard.service.OrderService;
 import com.admin.dashboard.service.ProductService;
 import com.admin.dashboard.service.SalesDataService;
 import com.admin.dashboard.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/dashboard")
@@ -29,54 +41,79 @@ public class DashboardController {
     @Autowired
     private SalesDataService salesDataService;
 
-    @GetMapping("/overview")
-    public ResponseEntity<Map<String, Object>> getDashboardOverview() {
-        Map<String, Object> overview = new HashMap<>();
-
-        // User stats
-        overview.put("totalUsers", userService.getAllUsers().size());
-        overview.put("activeUsers", userService.getActiveUsersCount());
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
 
-        // Product stats
-        overview.put("totalProducts", productService.getAllProducts().size());
-        overview.put("productsInStock", productService.getProductsInStockCount());
+    @Autowired
+    private DashboardQueryExecutor dashboardQueryExecutor;
 
-        // Order stats
-        overview.put("totalOrders", orderService.getAllOrders().size());
-        overview.put("pendingOrders", orderService.getOrderCountByStatus(com.admin.dashboard.entity.Order.Status.PENDING));
-        overview.put("totalRevenue", orderService.getTotalRevenue());
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
 
-        // Recent activity - orders from last 30 days
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        LocalDateTime now = LocalDateTime.now();
-        overview.put("recentOrders", orderService.getOrdersByDateRange(thirtyDaysAgo, now).size());
-        overview.put("recentRevenue", orderService.getTotalRevenueByDateRange(thirtyDaysAgo, now));
+    @GetMapping("/overview")
+    public ResponseEntity<Map<String, Object>> getDashboardOverview() {
+        return ResponseEntity.ok(dashboardSnapshotService.getSnapshot().toOverview());
+    }
 
-        return ResponseEntity.ok(overview);
+    /**
+     * Server-Sent Events: the overview on connect and again whenever it has
+     * changed, at most once per stream interval.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void streamOverview(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        dashboardStreamService.subscribe(request, response);
     }
 
     @GetMapping("/analytics")
-    public ResponseEntity<Map<String, Object>> getAnalytics() {
+    public ResponseEntity<Map<String, Object>> getAnalytics(
+            @RequestParam(defaultValue = "false") boolean fresh) {
+        DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot();
+
+        // Entity lists always come from the database; aggregates come from the
+        // snapshot unless the caller asks for fresh figures
+        Map<String, Supplier<?>> queries = new LinkedHashMap<>();
+        queries.put("salesData", salesDataService::getAllSalesData);
+        queries.put("topSellingProducts", () -> productService.getTopSellingProducts(5));
+        queries.put("lowStockProducts", () -> productService.getLowStockProducts(10));
+        if (fresh) {
+            queries.put("salesByCategory", salesDataService::getSalesByCategory);
+            queries.put("orderStatusDistribution", orderService::getOrderCountByStatus);
+            queries.put("productsByCategory", productService::getProductCountByCategory);
+            queries.put("admin", () -> userService.getUserCountByRole(User.Role.ADMIN));
+            queries.put("customer", () -> userService.getUserCountByRole(User.Role.CUSTOMER));
+            queries.put("moderator", () -> userService.getUserCountByRole(User.Role.MODERATOR));
+        }
+
+        Map<String, Object> results = dashboardQueryExecutor.fetchAll(queries);
         Map<String, Object> analytics = new HashMap<>();
 
         // Sales data
-        analytics.put("salesData", salesDataService.getAllSalesData());
-        analytics.put("salesByCategory", salesDataService.getSalesByCategory());
+        analytics.put("salesData", results.get("salesData"));
+        analytics.put("salesByCategory", fresh ? results.get("salesByCategory") : snapshot.getSalesByCategory());
 
         // Order distribution
-        analytics.put("orderStatusDistribution", orderService.getOrderCountByStatus());
+        analytics.put("orderStatusDistribution",
+                fresh ? results.get("orderStatusDistribution") : snapshot.getOrderStatusDistribution());
 
         // Product analytics
-        analytics.put("topSellingProducts", productService.getTopSellingProducts(5));
-        analytics.put("lowStockProducts", productService.getLowStockProducts(10));
-        analytics.put("productsByCategory", productService.getProductCountByCategory());
+        analytics.put("topSellingProducts", results.get("topSellingProducts"));
+        analytics.put("lowStockProducts", results.get("lowStockProducts"));
+        analytics.put("productsByCategory",
+                fresh ? results.get("productsByCategory") : snapshot.getProductCountByCategory());
 
         // User analytics
-        analytics.put("userRoleDistribution", Map.of(
-                "admin", userService.getUserCountByRole(com.admin.dashboard.entity.User.Role.ADMIN),
-                "customer", userService.getUserCountByRole(com.admin.dashboard.entity.User.Role.CUSTOMER),
-                "moderator", userService.getUserCountByRole(com.admin.dashboard.entity.User.Role.MODERATOR)
-        ));
+        Map<String, Object> roleDistribution = new HashMap<>();
+        for (User.Role role : User.Role.values()) {
+            String key = role.name().toLowerCase();
+            roleDistribution.put(key, fresh ? results.get(key) : snapshot.getUserCountByRole(role));
+        }
+        analytics.put("userRoleDistribution", roleDistribution);
+
+        List<String> unavailable = new ArrayList<>(queries.keySet());
+        unavailable.removeAll(results.keySet());
+        if (!unavailable.isEmpty()) {
+            analytics.put("unavailable", unavailable);
+        }
 
         return ResponseEntity.ok(analytics);
     }
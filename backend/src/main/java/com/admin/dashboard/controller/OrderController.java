@@ -1,18 +1,32 @@
 package com.admin.dashboard.controller;
 
+import com.admin.dashboard.dto.OrderSummary;
 import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.metrics.StatementBudget;
+import com.admin.dashboard.service.DashboardSnapshotService;
+import com.admin.dashboard.service.ExportService;
+import com.admin.dashboard.service.InsufficientStockException;
+import com.admin.dashboard.service.OrderImportService;
 import com.admin.dashboard.service.OrderService;
+import com.admin.dashboard.service.OrderTotals;
+import com.admin.dashboard.util.CursorCodec;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -27,19 +41,38 @@ public class OrderController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private OrderImportService orderImportService;
+
+    @Autowired
+    private CursorCodec cursorCodec;
+
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    // Page and count, plus a principal lookup on a cache miss
     @GetMapping
+    @StatementBudget(3)
     public ResponseEntity<Map<String, Object>> getAllOrders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "orderDate") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor) {
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        if (cursor != null || paging.equalsIgnoreCase("keyset")) {
+            return scrollOrders(search, sort, size, cursor);
+        }
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Order> orderPage;
+        Page<OrderSummary> orderPage;
         if (search != null && !search.trim().isEmpty()) {
             orderPage = orderService.searchOrders(search, pageable);
         } else {
@@ -55,7 +88,41 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    private ResponseEntity<Map<String, Object>> scrollOrders(String search, Sort sort, int size, String cursor) {
+        Window<OrderSummary> window;
+        try {
+            window = orderService.scrollOrders(search, cursorCodec.decode(cursor, Order.class, sort), sort, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("orders", window.getContent());
+        response.put("hasNext", window.hasNext());
+        response.put("nextCursor", window.hasNext() ? cursorCodec.encode(window.positionAt(window.size() - 1), sort) : null);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportService.Format exportFormat;
+        try {
+            exportFormat = ExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"orders." + exportFormat.getExtension() + "\"")
+                .body(out -> exportService.exportOrders(exportFormat, out));
+    }
+
     @GetMapping("/{id}")
+    @StatementBudget(2)
     public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
         return orderService.getOrderById(id)
                 .map(order -> ResponseEntity.ok(order))
@@ -63,6 +130,7 @@ public class OrderController {
     }
 
     @GetMapping("/order-id/{orderId}")
+    @StatementBudget(2)
     public ResponseEntity<Order> getOrderByOrderId(@PathVariable String orderId) {
         return orderService.getOrderByOrderId(orderId)
                 .map(order -> ResponseEntity.ok(order))
@@ -70,9 +138,29 @@ public class OrderController {
     }
 
     @PostMapping
-    public ResponseEntity<Order> createOrder(@Valid @RequestBody Order order) {
-        Order createdOrder = orderService.createOrder(order);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
+    public ResponseEntity<?> createOrder(@Valid @RequestBody Order order) {
+        try {
+            Order createdOrder = orderService.createOrder(order);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
+        } catch (InsufficientStockException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            error.put("productId", e.getProductId());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> importOrders(HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(orderImportService.importOrders(request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     @PutMapping("/{id}")
@@ -106,12 +194,14 @@ public class OrderController {
     }
 
     @GetMapping("/status/{status}")
+    @StatementBudget(2)
     public ResponseEntity<List<Order>> getOrdersByStatus(@PathVariable Order.Status status) {
         List<Order> orders = orderService.getOrdersByStatus(status);
         return ResponseEntity.ok(orders);
     }
 
     @GetMapping("/date-range")
+    @StatementBudget(2)
     public ResponseEntity<List<Order>> getOrdersByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
@@ -127,7 +217,10 @@ public class OrderController {
         Map<String, Object> revenue = new HashMap<>();
 
         if (startDate != null && endDate != null) {
-            revenue.put("totalRevenue", orderService.getTotalRevenueByDateRange(startDate, endDate));
+            OrderTotals totals = orderService.getOrderTotalsByDateRange(startDate, endDate);
+            revenue.put("totalRevenue", totals.getRevenue());
+            revenue.put("orderCount", totals.getOrderCount());
+            revenue.put("revenueByStatus", totals.getRevenueByStatus());
             revenue.put("period", "custom");
         } else {
             revenue.put("totalRevenue", orderService.getTotalRevenue());
@@ -140,7 +233,7 @@ public class OrderController {
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getOrderStats() {
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalOrders", orderService.getAllOrders().size());
+        stats.put("totalOrders", dashboardSnapshotService.getSnapshot().getTotalOrders());
         stats.put("pendingOrders", orderService.getOrderCountByStatus(Order.Status.PENDING));
         stats.put("processingOrders", orderService.getOrderCountByStatus(Order.Status.PROCESSING));
         stats.put("shippedOrders", orderService.getOrderCountByStatus(Order.Status.SHIPPED));
@@ -1,16 +1,28 @@
 package com.admin.dashboard.controller;
 
+import com.admin.dashboard.dto.ProductSummary;
 import com.admin.dashboard.entity.Product;
+import com.admin.dashboard.service.DashboardSnapshotService;
+import com.admin.dashboard.service.ExportService;
 import com.admin.dashboard.service.ProductService;
+import com.admin.dashboard.service.StockAlertService;
+import com.admin.dashboard.service.TopSellerService;
+import com.admin.dashboard.util.CursorCodec;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +36,18 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private CursorCodec cursorCodec;
+
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private StockAlertService stockAlertService;
+
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllProducts(
             @RequestParam(defaultValue = "0") int page,
@@ -31,13 +55,18 @@ public class ProductController {
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor) {
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        if (cursor != null || paging.equalsIgnoreCase("keyset")) {
+            return scrollProducts(search, sort, size, cursor);
+        }
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Product> productPage;
+        Page<ProductSummary> productPage;
         if (search != null && !search.trim().isEmpty()) {
             productPage = productService.searchProducts(search, pageable);
         } else {
@@ -53,10 +82,43 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    private ResponseEntity<Map<String, Object>> scrollProducts(String search, Sort sort, int size, String cursor) {
+        Window<ProductSummary> window;
+        try {
+            window = productService.scrollProducts(search, cursorCodec.decode(cursor, Product.class, sort), sort, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("products", window.getContent());
+        response.put("hasNext", window.hasNext());
+        response.put("nextCursor", window.hasNext() ? cursorCodec.encode(window.positionAt(window.size() - 1), sort) : null);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportService.Format exportFormat;
+        try {
+            exportFormat = ExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"products." + exportFormat.getExtension() + "\"")
+                .body(out -> exportService.exportProducts(exportFormat, out));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
         return productService.getProductById(id)
-                .map(product -> ResponseEntity.ok(product))
+                .map(product -> ResponseEntity.ok().eTag(String.valueOf(product.getVersion())).body(product))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -67,10 +129,23 @@ public class ProductController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Product> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product) {
+    public ResponseEntity<Product> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        // The edit must name the version it was made to, so it can't overwrite a newer change
+        if (ifMatch == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        long expectedVersion;
         try {
-            Product updatedProduct = productService.updateProduct(id, product);
-            return ResponseEntity.ok(updatedProduct);
+            expectedVersion = Long.parseLong(ifMatch.replaceFirst("^W/", "").replace("\"", "").trim());
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Product updatedProduct = productService.updateProduct(id, product, expectedVersion);
+            return ResponseEntity.ok().eTag(String.valueOf(updatedProduct.getVersion())).body(updatedProduct);
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -81,6 +156,8 @@ public class ProductController {
         try {
             productService.deleteProduct(id);
             return ResponseEntity.noContent().build();
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -99,17 +176,35 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Server-Sent Events: the products below {@code threshold} on connect,
+     * then {@code low-stock} / {@code restocked} events as products cross it.
+     */
+    @GetMapping(value = "/low-stock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLowStockAlerts(@RequestParam(defaultValue = "10") int threshold) {
+        return stockAlertService.subscribe(threshold);
+    }
+
     @GetMapping("/top-selling")
-    public ResponseEntity<List<Product>> getTopSellingProducts(
-            @RequestParam(defaultValue = "5") int limit) {
-        List<Product> products = productService.getTopSellingProducts(limit);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<?> getTopSellingProducts(
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) String window) {
+        if (window == null) {
+            return ResponseEntity.ok(productService.getTopSellingProducts(limit));
+        }
+        TopSellerService.Window topSellerWindow;
+        try {
+            topSellerWindow = TopSellerService.Window.from(window);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+        return ResponseEntity.ok(productService.getTopSellingProducts(topSellerWindow, limit));
     }
 
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getProductStats() {
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalProducts", productService.getAllProducts().size());
+        stats.put("totalProducts", dashboardSnapshotService.getSnapshot().getTotalProducts());
         stats.put("productsInStock", productService.getProductsInStockCount());
         stats.put("categoryCounts", productService.getProductCountByCategory());
 
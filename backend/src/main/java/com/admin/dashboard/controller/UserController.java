@@ -1,20 +1,28 @@
 package com.admin.dashboard.controller;
 
+import com.admin.dashboard.dto.UserSummary;
 import com.admin.dashboard.entity.User;
+import com.admin.dashboard.service.ExportService;
+import com.admin.dashboard.service.PasswordHashingService;
 import com.admin.dashboard.service.UserService;
+import com.admin.dashboard.util.CursorCodec;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/users")
@@ -24,19 +32,33 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private CursorCodec cursorCodec;
+
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor) {
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        if (cursor != null || paging.equalsIgnoreCase("keyset")) {
+            return scrollUsers(search, sort, size, cursor);
+        }
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<User> userPage;
+        Page<UserSummary> userPage;
         if (search != null && !search.trim().isEmpty()) {
             userPage = userService.searchUsers(search, pageable);
         } else {
@@ -52,6 +74,39 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    private ResponseEntity<Map<String, Object>> scrollUsers(String search, Sort sort, int size, String cursor) {
+        Window<UserSummary> window;
+        try {
+            window = userService.scrollUsers(search, cursorCodec.decode(cursor, User.class, sort), sort, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("users", window.getContent());
+        response.put("hasNext", window.hasNext());
+        response.put("nextCursor", window.hasNext() ? cursorCodec.encode(window.positionAt(window.size() - 1), sort) : null);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportService.Format exportFormat;
+        try {
+            exportFormat = ExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"users." + exportFormat.getExtension() + "\"")
+                .body(out -> exportService.exportUsers(exportFormat, out));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
         return userService.getUserById(id)
@@ -62,8 +117,12 @@ public class UserController {
     @PostMapping
     public ResponseEntity<User> createUser(@Valid @RequestBody User user) {
         try {
-            User createdUser = userService.createUser(user);
+            // Hash before touching the database so no connection waits on the pool
+            user.setPassword(passwordHashingService.encodeNow(user.getPassword()));
+            User createdUser = userService.createUserWithEncodedPassword(user);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -72,8 +131,13 @@ public class UserController {
     @PutMapping("/{id}")
     public ResponseEntity<User> updateUser(@PathVariable Long id, @Valid @RequestBody User user) {
         try {
-            User updatedUser = userService.updateUser(id, user);
+            if (user.getPassword() != null && !user.getPassword().isEmpty()) {
+                user.setPassword(passwordHashingService.encodeNow(user.getPassword()));
+            }
+            User updatedUser = userService.updateUserWithEncodedPassword(id, user);
             return ResponseEntity.ok(updatedUser);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
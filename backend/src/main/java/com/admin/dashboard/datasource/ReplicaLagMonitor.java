@@ -0,0 +1,108 @@
+package com.admin.dashboard.datasource;
+
+import com.admin.dashboard.config.SchedulingConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically measures replication lag and decides whether read-only
+ * transactions may use the replica. The replica is taken out of rotation when
+ * it is unreachable, replication is stopped, or lag exceeds the limit, and is
+ * put back on the first check that finds it within the limit again.
+ *
+ * <p>The lag query defaults to MySQL's {@code SHOW REPLICA STATUS}, read from
+ * its {@code Seconds_Behind_Source} column. Any other query must return the
+ * lag in seconds as its first column. An empty result means the server is not
+ * replicating from anything and counts as no lag.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagMs;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagMs = -1;
+    private boolean checked;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMs) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Last measured lag in milliseconds, or -1 when it could not be measured.
+     */
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:2000}", scheduler = SchedulingConfig.REALTIME)
+    public void check() {
+        Long measured;
+        String reason = null;
+        try {
+            measured = measureLagMs();
+            if (measured == null) {
+                reason = "replication is not running";
+            } else if (measured > maxLagMs) {
+                reason = "lag " + measured + " ms exceeds " + maxLagMs + " ms";
+            }
+        } catch (SQLException e) {
+            measured = null;
+            reason = "lag check failed: " + e.getMessage();
+        }
+
+        lagMs = measured != null ? measured : -1;
+        boolean usable = reason == null;
+        if (!checked || usable != replicaUsable) {
+            if (usable) {
+                log.info("Read-only transactions use the replica (lag {} ms)", lagMs);
+            } else {
+                log.warn("Read-only transactions fall back to the primary: {}", reason);
+            }
+            replicaUsable = usable;
+            checked = true;
+        }
+    }
+
+    private Long measureLagMs() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            double seconds = rs.getDouble(lagColumn(rs.getMetaData()));
+            return rs.wasNull() ? null : Math.round(seconds * 1000);
+        }
+    }
+
+    private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            for (String name : LAG_COLUMNS) {
+                if (name.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    return i;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,18 @@
+package com.admin.dashboard.dto;
+
+import com.admin.dashboard.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Order row for list and search responses, without line items.
+ */
+public record OrderSummary(Long id, String orderId, String customer, BigDecimal total,
+                           Order.Status status, LocalDateTime orderDate) {
+
+    public static OrderSummary from(Order order) {
+        return new OrderSummary(order.getId(), order.getOrderId(), order.getCustomer(), order.getTotal(),
+                order.getStatus(), order.getOrderDate());
+    }
+}
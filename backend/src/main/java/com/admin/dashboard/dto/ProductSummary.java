@@ -0,0 +1,17 @@
+package com.admin.dashboard.dto;
+
+import com.admin.dashboard.entity.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * Product row for list and search responses, without the description.
+ */
+public record ProductSummary(Long id, String name, String category, BigDecimal price,
+                             Integer stock, Integer sales, String imageUrl) {
+
+    public static ProductSummary from(Product product) {
+        return new ProductSummary(product.getId(), product.getName(), product.getCategory(), product.getPrice(),
+                product.getStock(), product.getSales(), product.getImageUrl());
+    }
+}
@@ -0,0 +1,17 @@
+package com.admin.dashboard.dto;
+
+import com.admin.dashboard.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * User row for list and search responses, without the password hash.
+ */
+public record UserSummary(Long id, String name, String email, User.Role role,
+                          User.Status status, LocalDateTime createdAt) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getEmail(), user.getRole(),
+                user.getStatus(), user.getCreatedAt());
+    }
+}
@@ -0,0 +1,22 @@
+package com.admin.dashboard.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_rollup_hourly",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"bucket_start", "status"}))
+public class HourlyOrderRollup extends OrderRollup {
+
+    // Constructors
+    public HourlyOrderRollup() {}
+
+    public HourlyOrderRollup(LocalDateTime bucketStart, Order.Status status) {
+        super(bucketStart, status, 0, BigDecimal.ZERO);
+    }
+
+    public HourlyOrderRollup(LocalDateTime bucketStart, Order.Status status, long orderCount, BigDecimal revenue) {
+        super(bucketStart, status, orderCount, revenue);
+    }
+}
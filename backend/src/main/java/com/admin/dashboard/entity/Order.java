@@ -1,5 +1,6 @@
 package com.admin.dashboard.entity;
 
+import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -11,9 +12,11 @@ import java.util.List;
 
 @Entity
 @Table(name = "orders")
+@EntityListeners(OrderIdListener.class)
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "order_id", unique = true, nullable = false)
@@ -41,6 +44,7 @@ public class Order {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @JsonManagedReference
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -55,9 +59,6 @@ public class Order {
         if (orderDate == null) {
             orderDate = LocalDateTime.now();
         }
-        if (orderId == null) {
-            orderId = "ORD" + String.format("%06d", System.currentTimeMillis() % 1000000);
-        }
     }
 
     @PreUpdate
@@ -0,0 +1,25 @@
+package com.admin.dashboard.entity;
+
+import com.admin.dashboard.util.OrderIdGenerator;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Assigns an order id from the configured {@link OrderIdGenerator} when a new
+ * order doesn't carry one. Hibernate resolves this listener from the Spring
+ * context, so it can be injected like any other bean.
+ */
+@Component
+public class OrderIdListener {
+
+    @Autowired
+    private OrderIdGenerator orderIdGenerator;
+
+    @PrePersist
+    public void assignOrderId(Order order) {
+        if (order.getOrderId() == null) {
+            order.setOrderId(orderIdGenerator.nextOrderId());
+        }
+    }
+}
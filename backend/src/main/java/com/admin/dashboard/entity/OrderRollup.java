@@ -0,0 +1,55 @@
+package com.admin.dashboard.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated order count and revenue for one time bucket and status.
+ * Subclasses map the hourly and daily tables.
+ */
+@MappedSuperclass
+public abstract class OrderRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.Status status;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    // Constructors
+    protected OrderRollup() {}
+
+    protected OrderRollup(LocalDateTime bucketStart, Order.Status status, long orderCount, BigDecimal revenue) {
+        this.bucketStart = bucketStart;
+        this.status = status;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public void setBucketStart(LocalDateTime bucketStart) { this.bucketStart = bucketStart; }
+
+    public Order.Status getStatus() { return status; }
+    public void setStatus(Order.Status status) { this.status = status; }
+
+    public long getOrderCount() { return orderCount; }
+    public void setOrderCount(long orderCount) { this.orderCount = orderCount; }
+
+    public BigDecimal getRevenue() { return revenue; }
+    public void setRevenue(BigDecimal revenue) { this.revenue = revenue; }
+}
@@ -0,0 +1,147 @@
+package com.admin.dashboard.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Times every controller handler ({@code controller.handler.duration}) and
+ * repository method ({@code repository.query.duration}) with percentile
+ * histograms, tagged by class, method and exception. Repository results are
+ * also counted into {@code repository.query.rows}: collections, pages,
+ * windows and optionals by size, single entities as one, streams as they are
+ * consumed; counts, flags and void methods are skipped. Handlers returning a {@link CompletableFuture} are timed until it
+ * completes.
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.admin.dashboard.repository";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<MethodKey, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.admin.dashboard.controller.*Controller.*(..))")
+    public Object timeHandler(ProceedingJoinPoint pjp) throws Throwable {
+        String controller = pjp.getSignature().getDeclaringType().getSimpleName();
+        String method = pjp.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable e) {
+            sample.stop(timer("controller.handler.duration", "controller", controller, method, e));
+            throw e;
+        }
+        if (result instanceof CompletableFuture<?> future) {
+            return future.whenComplete((value, e) ->
+                    sample.stop(timer("controller.handler.duration", "controller", controller, method, unwrap(e))));
+        }
+        sample.stop(timer("controller.handler.duration", "controller", controller, method, null));
+        return result;
+    }
+
+    @Around("execution(* com.admin.dashboard.repository.*Repository.*(..))")
+    public Object timeQuery(ProceedingJoinPoint pjp) throws Throwable {
+        String repository = repositoryName(pjp);
+        String method = pjp.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable e) {
+            sample.stop(timer("repository.query.duration", "repository", repository, method, e));
+            throw e;
+        }
+        sample.stop(timer("repository.query.duration", "repository", repository, method, null));
+
+        if (result instanceof Stream<?> stream) {
+            AtomicLong count = new AtomicLong();
+            return stream.peek(row -> count.incrementAndGet()).onClose(() -> rows(repository, method).record(count.get()));
+        }
+        Class<?> returnType = ((MethodSignature) pjp.getSignature()).getReturnType();
+        if (returnType != void.class && !(result instanceof Number) && !(result instanceof Boolean)) {
+            rows(repository, method).record(rowCount(result));
+        }
+        return result;
+    }
+
+    private Timer timer(String name, String ownerTag, String owner, String method, Throwable error) {
+        return Timer.builder(name)
+                .tags(ownerTag, owner, "method", method,
+                        "exception", error == null ? "none" : error.getClass().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary rows(String repository, String method) {
+        return DistributionSummary.builder("repository.query.rows")
+                .description("Rows returned per repository call")
+                .tags("repository", repository, "method", method)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The repository interface, not the JpaRepository type an inherited method
+     * like findAll is declared on.
+     */
+    private String repositoryName(ProceedingJoinPoint pjp) {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        return repositoryNames.computeIfAbsent(new MethodKey(pjp.getThis().getClass(), method), key -> {
+            for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(pjp.getThis())) {
+                if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+            return method.getDeclaringClass().getSimpleName();
+        });
+    }
+
+    private static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Window<?> window) {
+            return window.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private record MethodKey(Class<?> proxyType, Method method) {
+    }
+}
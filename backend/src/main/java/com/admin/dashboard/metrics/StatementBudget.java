@@ -0,0 +1,20 @@
+package com.admin.dashboard.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum SQL statements a handler may run per request, replacing the global
+ * {@code metrics.n-plus-one.threshold}. Over budget the request is logged as a
+ * possible N+1, or fails when {@code metrics.n-plus-one.enforce} is set.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    int value();
+}
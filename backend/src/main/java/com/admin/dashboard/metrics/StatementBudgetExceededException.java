@@ -0,0 +1,10 @@
+package com.admin.dashboard.metrics;
+
+public class StatementBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public StatementBudgetExceededException(int statements, int budget) {
+        super("Request exceeded its SQL statement budget: statement " + statements + " of " + budget);
+    }
+}
@@ -0,0 +1,30 @@
+package com.admin.dashboard.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the handler's {@link StatementBudget} once the handler is known,
+ * before it runs any statements.
+ */
+@Component
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementBudget budget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            if (budget != null) {
+                statementCounter.setBudget(budget.value());
+            }
+        }
+        return true;
+    }
+}
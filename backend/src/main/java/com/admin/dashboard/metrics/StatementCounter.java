@@ -0,0 +1,79 @@
+package com.admin.dashboard.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a
+ * count is open, against that request's budget. Registered as Hibernate's
+ * statement inspector; statements outside {@link #begin}/{@link #end}
+ * (scheduled jobs, startup) are not counted. Plain JdbcTemplate calls bypass
+ * Hibernate and are not seen.
+ *
+ * <p>With {@code metrics.n-plus-one.enforce} the statement that goes over the
+ * budget throws {@link StatementBudgetExceededException}, which fails the
+ * request; meant for tests and load runs, not production.
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+
+    @Value("${metrics.n-plus-one.enforce:false}")
+    private boolean enforce;
+
+    public void begin(int budget) {
+        CURRENT.set(new Count(budget));
+    }
+
+    /**
+     * Replaces the budget of the open count, e.g. with a handler's {@link StatementBudget}.
+     */
+    public void setBudget(int budget) {
+        Count count = CURRENT.get();
+        if (count != null) {
+            count.budget = budget;
+        }
+    }
+
+    /**
+     * @return the budget of the open count, or 0 when none is open
+     */
+    public int budget() {
+        Count count = CURRENT.get();
+        return count == null ? 0 : count.budget;
+    }
+
+    /**
+     * @return statements since {@link #begin}, or 0 when no count was open
+     */
+    public int end() {
+        Count count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? 0 : count.statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Count count = CURRENT.get();
+        if (count != null) {
+            count.statements++;
+            if (enforce && count.budget > 0 && count.statements > count.budget) {
+                throw new StatementBudgetExceededException(count.statements, count.budget);
+            }
+        }
+        return sql;
+    }
+
+    private static final class Count {
+        int statements;
+        int budget;
+
+        Count(int budget) {
+            this.budget = budget;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.admin.dashboard.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the Hibernate statements each request runs
+ * ({@code http.request.statements}, tagged by method and URI pattern) and
+ * flags likely N+1 query patterns: a request over its budget, the handler's
+ * {@link StatementBudget} or else {@code metrics.n-plus-one.threshold}, is
+ * logged at WARN and counted in {@code http.request.statements.exceeded}.
+ */
+@Component
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementCountingFilter.class);
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${metrics.n-plus-one.threshold:20}")
+    private int threshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.begin(threshold);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int budget = statementCounter.budget();
+            int statements = statementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.request.statements")
+                    .description("SQL statements run per request")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (budget > 0 && statements > budget) {
+                Counter.builder("http.request.statements.exceeded")
+                        .description("Requests over the N+1 statement threshold")
+                        .tags("method", request.getMethod(), "uri", uri)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("Possible N+1 query: {} {} ran {} SQL statements (budget {})",
+                        request.getMethod(), request.getRequestURI(), statements, budget);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.admin.dashboard.repository;
+
+import com.admin.dashboard.entity.DailyOrderRollup;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyOrderRollupRepository extends OrderRollupRepository<DailyOrderRollup> {
+}
@@ -0,0 +1,8 @@
+package com.admin.dashboard.repository;
+
+import com.admin.dashboard.entity.HourlyOrderRollup;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HourlyOrderRollupRepository extends OrderRollupRepository<HourlyOrderRollup> {
+}
@@ -1,30 +1,65 @@
 package com.admin.dashboard.repository;
 
+import com.admin.dashboard.dto.OrderSummary;
 import com.admin.dashboard.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
 
+    // Reads that return orders for serialization fetch their items and products
+    // in the same query. List and search reads select straight into
+    // OrderSummary rows instead and leave the items to GET /orders/{id}.
+
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.product"})
+    Optional<Order> findWithItemsById(Long id);
+
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.product"})
     Optional<Order> findByOrderId(String orderId);
 
-    @Query("SELECT o FROM Order o WHERE " +
-           "LOWER(o.orderId) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(o.customer) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Order> findBySearchTerm(@Param("searchTerm") String searchTerm, Pageable pageable);
+    @Query(value = "SELECT new com.admin.dashboard.dto.OrderSummary(" +
+                   "o.id, o.orderId, o.customer, o.total, o.status, o.orderDate) FROM Order o",
+           countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<OrderSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.admin.dashboard.dto.OrderSummary(" +
+                   "o.id, o.orderId, o.customer, o.total, o.status, o.orderDate) FROM Order o WHERE " +
+                   "LOWER(o.orderId) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                   "LOWER(o.customer) LIKE LOWER(CONCAT('%', :searchTerm, '%'))",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE " +
+                        "LOWER(o.orderId) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(o.customer) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    Page<OrderSummary> findSummariesBySearchTerm(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query("SELECT new com.admin.dashboard.dto.OrderSummary(" +
+           "o.id, o.orderId, o.customer, o.total, o.status, o.orderDate) FROM Order o WHERE o.id IN :ids")
+    List<OrderSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    @Query("SELECT o.id, o.orderId, o.customer FROM Order o")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamSearchFields();
 
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.product"})
     List<Order> findByStatus(Order.Status status);
 
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.product"})
     @Query("SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate")
     List<Order> findOrdersByDateRange(@Param("startDate") LocalDateTime startDate,
                                       @Param("endDate") LocalDateTime endDate);
@@ -41,4 +76,20 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     @Query("SELECT SUM(o.total) FROM Order o")
     BigDecimal getTotalRevenue();
+
+    @Query("SELECT o.status, COUNT(o), SUM(o.total) FROM Order o " +
+           "WHERE o.orderDate >= :from AND o.orderDate < :to GROUP BY o.status")
+    List<Object[]> summarizeOrdersBetween(@Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    @Query("SELECT o.status, COUNT(o), SUM(o.total) FROM Order o GROUP BY o.status")
+    List<Object[]> summarizeAllOrders();
+
+    @Query("SELECT o.orderDate, o.status, o.total FROM Order o")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamRollupSource();
+
+    @Query("SELECT i.product.id, o.orderDate, i.quantity FROM Order o JOIN o.orderItems i WHERE o.orderDate >= :from")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamItemsSince(@Param("from") LocalDateTime from);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.admin.dashboard.repository;
+
+import com.admin.dashboard.entity.OrderRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoRepositoryBean
+public interface OrderRollupRepository<T extends OrderRollup> extends JpaRepository<T, Long> {
+
+    @Query("SELECT r.status, SUM(r.orderCount), SUM(r.revenue) FROM #{#entityName} r " +
+           "WHERE r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.status")
+    List<Object[]> summarizeBuckets(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT r.status, SUM(r.orderCount), SUM(r.revenue) FROM #{#entityName} r GROUP BY r.status")
+    List<Object[]> summarizeAllBuckets();
+}
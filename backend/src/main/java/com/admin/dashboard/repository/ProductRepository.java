@@ -1,34 +1,84 @@
 package com.admin.dashboard.repository;
 
+import com.admin.dashboard.dto.ProductSummary;
 import com.admin.dashboard.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
 
-    @Query("SELECT p FROM Product p WHERE " +
-           "LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(p.category) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Product> findBySearchTerm(@Param("searchTerm") String searchTerm, Pageable pageable);
+    // List and search reads select straight into ProductSummary rows, so no
+    // entities are loaded into the persistence context and no description is read
 
-    List<Product> findByCategory(String category);
+    @Query(value = "SELECT new com.admin.dashboard.dto.ProductSummary(" +
+                   "p.id, p.name, p.category, p.price, p.stock, p.sales, p.imageUrl) FROM Product p",
+           countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductSummary> findSummaries(Pageable pageable);
 
+    @Query(value = "SELECT new com.admin.dashboard.dto.ProductSummary(" +
+                   "p.id, p.name, p.category, p.price, p.stock, p.sales, p.imageUrl) FROM Product p WHERE " +
+                   "LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                   "LOWER(p.category) LIKE LOWER(CONCAT('%', :searchTerm, '%'))",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE " +
+                        "LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(p.category) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    Page<ProductSummary> findSummariesBySearchTerm(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query("SELECT new com.admin.dashboard.dto.ProductSummary(" +
+           "p.id, p.name, p.category, p.price, p.stock, p.sales, p.imageUrl) FROM Product p WHERE p.id IN :ids")
+    List<ProductSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    @Query("SELECT p.id, p.name, p.category FROM Product p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamSearchFields();
+
+    @Query("SELECT p.id, p.sales FROM Product p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamSales();
+
+    @Query("SELECT p.id, p.name, p.stock FROM Product p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamStockLevels();
+
+    // Catalog reads below go through the query cache. Queries whose rows carry
+    // sales figures cache only ids; ProductService resolves them through the
+    // entity cache, which checkouts keep current by evicting single products.
+
+    @Query("SELECT p.id FROM Product p WHERE p.category = :category ORDER BY p.id")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "product-queries")})
+    List<Long> findIdsByCategory(@Param("category") String category);
+
+    // Only used until StockAlertService has loaded its stock index
     @Query("SELECT p FROM Product p WHERE p.stock < :threshold")
     List<Product> findLowStockProducts(@Param("threshold") Integer threshold);
 
     @Query("SELECT p.category, COUNT(p) FROM Product p GROUP BY p.category")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "product-queries")})
     List<Object[]> countProductsByCategory();
 
-    @Query("SELECT p FROM Product p ORDER BY p.sales DESC")
-    List<Product> findTopSellingProducts(Pageable pageable);
+    // Only used until TopSellerService has loaded its ranking
+    @Query("SELECT p.id FROM Product p ORDER BY p.sales DESC, p.id")
+    List<Long> findTopSellingProductIds(Pageable pageable);
 
     @Query("SELECT COUNT(p) FROM Product p WHERE p.stock > 0")
     long countProductsInStock();
+
+    @Query("SELECT p.category, COUNT(p), SUM(CASE WHEN p.stock > 0 THEN 1 ELSE 0 END) " +
+           "FROM Product p GROUP BY p.category")
+    List<Object[]> summarizeProductsByCategory();
 }
\ No newline at end of file
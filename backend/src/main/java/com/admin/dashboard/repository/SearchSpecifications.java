@@ -0,0 +1,51 @@
+package com.admin.dashboard.repository;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.Product;
+import com.admin.dashboard.entity.User;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Criteria equivalents of the findBySearchTerm queries, for callers that need
+ * to combine the search with keyset scrolling.
+ */
+public final class SearchSpecifications {
+
+    private SearchSpecifications() {}
+
+    public static Specification<Order> orderSearch(String searchTerm) {
+        return likeAny(searchTerm, "orderId", "customer");
+    }
+
+    public static Specification<Product> productSearch(String searchTerm) {
+        return likeAny(searchTerm, "name", "category");
+    }
+
+    public static Specification<User> userSearch(String searchTerm) {
+        return likeAny(searchTerm, "name", "email");
+    }
+
+    /**
+     * Restricts to ids already resolved by the search index.
+     */
+    public static <T> Specification<T> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    private static <T> Specification<T> likeAny(String searchTerm, String... attributes) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return Specification.where(null);
+        }
+        String pattern = "%" + searchTerm.trim().toLowerCase() + "%";
+        return (root, query, cb) -> {
+            Predicate[] predicates = new Predicate[attributes.length];
+            for (int i = 0; i < attributes.length; i++) {
+                predicates[i] = cb.like(cb.lower(root.get(attributes[i])), pattern);
+            }
+            return cb.or(predicates);
+        };
+    }
+}
@@ -1,29 +1,65 @@
 package com.admin.dashboard.repository;
 
+import com.admin.dashboard.dto.UserSummary;
 import com.admin.dashboard.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
-    @Query("SELECT u FROM User u WHERE " +
-           "LOWER(u.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<User> findBySearchTerm(@Param("searchTerm") String searchTerm, Pageable pageable);
+    // List and search reads select straight into UserSummary rows, so no
+    // entities are loaded into the persistence context and no password hash is read
+
+    @Query(value = "SELECT new com.admin.dashboard.dto.UserSummary(" +
+                   "u.id, u.name, u.email, u.role, u.status, u.createdAt) FROM User u",
+           countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserSummary> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new com.admin.dashboard.dto.UserSummary(" +
+                   "u.id, u.name, u.email, u.role, u.status, u.createdAt) FROM User u WHERE " +
+                   "LOWER(u.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                   "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))",
+           countQuery = "SELECT COUNT(u) FROM User u WHERE " +
+                        "LOWER(u.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    Page<UserSummary> findSummariesBySearchTerm(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query("SELECT new com.admin.dashboard.dto.UserSummary(" +
+           "u.id, u.name, u.email, u.role, u.status, u.createdAt) FROM User u WHERE u.id IN :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    @Query("SELECT u.id, u.name, u.email FROM User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamSearchFields();
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int replacePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.status = 'ACTIVE'")
     long countActiveUsers();
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
     long countByRole(@Param("role") User.Role role);
+
+    @Query("SELECT u.role, u.status, COUNT(u) FROM User u GROUP BY u.role, u.status")
+    List<Object[]> countUsersByRoleAndStatus();
 }
\ No newline at end of file
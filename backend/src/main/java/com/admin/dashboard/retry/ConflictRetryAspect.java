@@ -0,0 +1,80 @@
+package com.admin.dashboard.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries {@link RetryOnConflict} methods with jittered exponential backoff,
+ * up to {@code retry.conflict.max-attempts} attempts in total. Ordered
+ * outside the transaction interceptor, so a conflict detected at commit is
+ * seen here and every attempt starts a fresh transaction; a rolled back
+ * attempt leaves no state behind because the open-in-view EntityManager is
+ * cleared on rollback. Calls made inside an existing transaction are not
+ * retried, as only the outermost caller can start over, and neither is a
+ * {@link StaleVersionException}, which no rerun can resolve.
+ *
+ * <p>Counts {@code conflict.retries} per method; the final failure is
+ * rethrown unchanged.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflictRetryAspect.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${retry.conflict.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${retry.conflict.initial-backoff-ms:10}")
+    private long initialBackoffMs;
+
+    @Value("${retry.conflict.max-backoff-ms:200}")
+    private long maxBackoffMs;
+
+    @Around("@annotation(com.admin.dashboard.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint pjp) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return pjp.proceed();
+        }
+        String method = pjp.getSignature().getDeclaringType().getSimpleName() + "." + pjp.getSignature().getName();
+        long backoffMs = initialBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return pjp.proceed();
+            } catch (StaleVersionException e) {
+                throw e;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} still conflicting after {} attempts: {}", method, attempt, e.getMessage());
+                    throw e;
+                }
+                Counter.builder("conflict.retries")
+                        .description("Service calls rerun after losing a concurrent update")
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .increment();
+                log.debug("{} conflicted on attempt {}, retrying: {}", method, attempt, e.getMessage());
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs / 2, backoffMs + 1));
+                backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.admin.dashboard.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reruns a transactional service method when it loses a concurrent update,
+ * i.e. fails with a {@link org.springframework.dao.ConcurrencyFailureException}
+ * such as a stale {@code @Version}. Each attempt runs in a new transaction and
+ * the retries back off; see {@link ConflictRetryAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,17 @@
+package com.admin.dashboard.retry;
+
+import org.springframework.dao.ConcurrencyFailureException;
+
+/**
+ * Thrown when the caller edited an older version than the one stored. Unlike
+ * other conflicts it is not retried: rerunning would only apply the same stale
+ * edit to the newer row.
+ */
+public class StaleVersionException extends ConcurrencyFailureException {
+
+    private static final long serialVersionUID = 1L;
+
+    public StaleVersionException(String entity, Object id, Long expected, Long actual) {
+        super(entity + " " + id + " is at version " + actual + ", not " + expected);
+    }
+}
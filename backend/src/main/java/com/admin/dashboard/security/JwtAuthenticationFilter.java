@@ -0,0 +1,67 @@
+package com.admin.dashboard.security;
+
+import com.admin.dashboard.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authenticates {@code Authorization: Bearer} tokens. Signature checks go
+ * through {@link JwtUtil}'s verified-token cache and the user's role and
+ * status come from {@link PrincipalCache}, so a steady stream of requests
+ * costs neither a signature verification nor a query each time. Requests
+ * without a valid token continue unauthenticated and are left to the
+ * authorization rules.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final PrincipalCache principalCache;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, PrincipalCache principalCache) {
+        this.jwtUtil = jwtUtil;
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            authenticate(request, header.substring(BEARER_PREFIX.length()));
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request, String token) {
+        Optional<String> email = jwtUtil.parseClaims(token).map(Claims::getSubject);
+        if (email.isEmpty()) {
+            return;
+        }
+        principalCache.get(email.get())
+                .filter(PrincipalCache.CachedPrincipal::isActive)
+                .ifPresent(principal -> {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            email.get(), null, List.of(new SimpleGrantedAuthority("ROLE_" + principal.role().name())));
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(authentication);
+                    SecurityContextHolder.setContext(context);
+                });
+    }
+}
@@ -0,0 +1,63 @@
+package com.admin.dashboard.security;
+
+import com.admin.dashboard.entity.User;
+import com.admin.dashboard.repository.UserRepository;
+import com.admin.dashboard.util.TransactionHooks;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived email to (role, status) lookup used to authenticate bearer
+ * tokens without a user query per request. Entries expire after a few seconds
+ * and are dropped as soon as a user update or delete commits.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final LoadingCache<String, Optional<CachedPrincipal>> principals;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl-ms:30000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build(this::load);
+    }
+
+    /**
+     * The principal for an email, or empty when no such user exists. Unknown
+     * emails are cached too, so a token for a deleted user can't force a query
+     * per request.
+     */
+    public Optional<CachedPrincipal> get(String email) {
+        return principals.get(email);
+    }
+
+    /**
+     * Drops the entry once the current transaction commits, so the next request
+     * reloads the committed role and status.
+     */
+    public void invalidate(String email) {
+        TransactionHooks.afterCommit(() -> principals.invalidate(email));
+    }
+
+    private Optional<CachedPrincipal> load(String email) {
+        return userRepository.findByEmail(email)
+                .map(user -> new CachedPrincipal(user.getId(), user.getRole(), user.getStatus()));
+    }
+
+    public record CachedPrincipal(Long id, User.Role role, User.Status status) {
+
+        public boolean isActive() {
+            return status == User.Status.ACTIVE;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.admin.dashboard.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent dashboard queries concurrently so a request costs roughly
+ * its slowest query instead of the sum of all of them.
+ *
+ * <p>Modes ({@code dashboard.fanout.mode}):
+ * <ul>
+ *   <li>{@code sequential} - run inline on the request thread (previous behaviour)</li>
+ *   <li>{@code parallel} - bounded platform-thread pool</li>
+ *   <li>{@code virtual} - one virtual thread per query on Java 21+, falls back to {@code parallel}</li>
+ * </ul>
+ * Each query holds a JDBC connection while it runs, so in-flight queries are
+ * capped below the HikariCP pool size to leave connections for writes.
+ *
+ * <p>In the concurrent modes each query runs in a read-only transaction that
+ * starts once it holds a permit, with {@code dashboard.fanout.query-timeout-ms}
+ * as the transaction timeout. Spring passes the remaining time to every JPA
+ * query as its statement timeout, so the database cancels a slow query and
+ * its connection and permit are freed, rather than the request giving up on
+ * a query that keeps running.
+ */
+@Service
+public class DashboardQueryExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardQueryExecutor.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${dashboard.fanout.mode:parallel}")
+    private String mode;
+
+    @Value("${dashboard.fanout.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${dashboard.fanout.query-timeout-ms:2000}")
+    private long queryTimeoutMs;
+
+    private ExecutorService executor;
+    private Semaphore permits;
+    private TransactionTemplate timedTransaction;
+
+    @PostConstruct
+    void start() {
+        if ("sequential".equalsIgnoreCase(mode)) {
+            return;
+        }
+        int concurrency = Math.max(1, Math.min(maxConcurrency, connectionPoolSize() - 1));
+        permits = new Semaphore(concurrency);
+        timedTransaction = new TransactionTemplate(transactionManager);
+        timedTransaction.setReadOnly(true);
+        // Whole seconds; queries get the remaining time in milliseconds
+        timedTransaction.setTimeout((int) Math.max(1, (queryTimeoutMs + 999) / 1000));
+        if ("virtual".equalsIgnoreCase(mode)) {
+            executor = newVirtualThreadExecutor();
+        }
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(concurrency * 64),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "dashboard-query-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        log.info("Dashboard query fan-out: mode={}, concurrency={}, timeout={}ms", mode, concurrency, queryTimeoutMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs every query and returns the results under the same keys. Queries that
+     * fail or exceed the per-query timeout are logged and left out of the result.
+     * Time spent waiting for a permit does not count against the timeout.
+     */
+    public Map<String, Object> fetchAll(Map<String, Supplier<?>> queries) {
+        Map<String, Object> results = new HashMap<>();
+        if (executor == null) {
+            queries.forEach((key, query) -> {
+                try {
+                    results.put(key, query.get());
+                } catch (RuntimeException e) {
+                    log.warn("Dashboard query '{}' failed: {}", key, e.getMessage());
+                }
+            });
+            return results;
+        }
+
+        Map<String, CompletableFuture<?>> futures = new LinkedHashMap<>();
+        queries.forEach((key, query) -> futures.put(key,
+                CompletableFuture.supplyAsync(() -> withPermit(query), executor)));
+
+        futures.forEach((key, future) -> {
+            try {
+                results.put(key, future.join());
+            } catch (CompletionException e) {
+                log.warn("Dashboard query '{}' failed: {}", key, String.valueOf(e.getCause()));
+            }
+        });
+        return results;
+    }
+
+    private <T> T withPermit(Supplier<T> query) {
+        permits.acquireUninterruptibly();
+        try {
+            return timedTransaction.execute(status -> query.get());
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Size of the pool queries fall back to. With a read replica that is the
+     * primary's, found behind the lazy proxy and the routing data source.
+     */
+    private int connectionPoolSize() {
+        DataSource target = dataSource;
+        while (true) {
+            if (target instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+                target = delegating.getTargetDataSource();
+            } else if (target instanceof AbstractRoutingDataSource routing
+                    && routing.getResolvedDefaultDataSource() != null) {
+                target = routing.getResolvedDefaultDataSource();
+            } else {
+                break;
+            }
+        }
+        try {
+            if (target.isWrapperFor(HikariDataSource.class)) {
+                return target.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("Could not inspect connection pool size", e);
+        }
+        return maxConcurrency + 1;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads need Java 21+, using a bounded thread pool instead");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable point-in-time view of every figure shown on the dashboard.
+ * New versions are produced through {@link #toBuilder()}, never by mutation,
+ * so readers can hold on to an instance without locking.
+ */
+public final class DashboardSnapshot {
+
+    private final Map<User.Role, Long> usersByRole;
+    private final Map<User.Status, Long> usersByStatus;
+    private final Map<String, Long> productsByCategory;
+    private final long productsInStock;
+    private final Map<Order.Status, Long> ordersByStatus;
+    private final BigDecimal totalRevenue;
+    private final LocalDateTime recentSince;
+    private final long recentOrders;
+    private final BigDecimal recentRevenue;
+    private final Map<String, BigDecimal> salesByCategory;
+    private final LocalDateTime builtAt;
+
+    private DashboardSnapshot(Builder builder) {
+        this.usersByRole = Collections.unmodifiableMap(new EnumMap<>(builder.usersByRole));
+        this.usersByStatus = Collections.unmodifiableMap(new EnumMap<>(builder.usersByStatus));
+        this.productsByCategory = Collections.unmodifiableMap(new HashMap<>(builder.productsByCategory));
+        this.productsInStock = builder.productsInStock;
+        this.ordersByStatus = Collections.unmodifiableMap(new EnumMap<>(builder.ordersByStatus));
+        this.totalRevenue = builder.totalRevenue;
+        this.recentSince = builder.recentSince;
+        this.recentOrders = builder.recentOrders;
+        this.recentRevenue = builder.recentRevenue;
+        this.salesByCategory = Collections.unmodifiableMap(new HashMap<>(builder.salesByCategory));
+        this.builtAt = LocalDateTime.now();
+    }
+
+    public static DashboardSnapshot empty(LocalDateTime recentSince) {
+        return new Builder(recentSince).build();
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public long getTotalUsers() { return sum(usersByRole); }
+
+    public long getActiveUsers() { return usersByStatus.getOrDefault(User.Status.ACTIVE, 0L); }
+
+    public long getUserCountByRole(User.Role role) { return usersByRole.getOrDefault(role, 0L); }
+
+    public long getTotalProducts() { return sum(productsByCategory); }
+
+    public long getProductsInStock() { return productsInStock; }
+
+    public long getTotalOrders() { return sum(ordersByStatus); }
+
+    public long getOrderCountByStatus(Order.Status status) { return ordersByStatus.getOrDefault(status, 0L); }
+
+    public BigDecimal getTotalRevenue() { return totalRevenue; }
+
+    public LocalDateTime getRecentSince() { return recentSince; }
+
+    public long getRecentOrders() { return recentOrders; }
+
+    public BigDecimal getRecentRevenue() { return recentRevenue; }
+
+    public LocalDateTime getBuiltAt() { return builtAt; }
+
+    /**
+     * The {@code /dashboard/overview} figures, also pushed by {@code /dashboard/stream}.
+     */
+    public Map<String, Object> toOverview() {
+        Map<String, Object> overview = new HashMap<>();
+
+        // User stats
+        overview.put("totalUsers", getTotalUsers());
+        overview.put("activeUsers", getActiveUsers());
+
+        // Product stats
+        overview.put("totalProducts", getTotalProducts());
+        overview.put("productsInStock", getProductsInStock());
+
+        // Order stats
+        overview.put("totalOrders", getTotalOrders());
+        overview.put("pendingOrders", getOrderCountByStatus(Order.Status.PENDING));
+        overview.put("totalRevenue", getTotalRevenue());
+
+        // Recent activity - orders since the recent window start
+        overview.put("recentOrders", getRecentOrders());
+        overview.put("recentRevenue", getRecentRevenue());
+        overview.put("asOf", getBuiltAt());
+
+        return overview;
+    }
+
+    // Same [key, value] row shape the GROUP BY repository queries return
+    public List<Object[]> getOrderStatusDistribution() { return rows(ordersByStatus); }
+
+    public List<Object[]> getProductCountByCategory() { return rows(productsByCategory); }
+
+    public List<Object[]> getSalesByCategory() { return rows(salesByCategory); }
+
+    private static long sum(Map<?, Long> counts) {
+        long total = 0;
+        for (Long count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static List<Object[]> rows(Map<?, ?> values) {
+        List<Object[]> rows = new ArrayList<>(values.size());
+        values.forEach((key, value) -> rows.add(new Object[]{key, value}));
+        return rows;
+    }
+
+    public static final class Builder {
+        private final Map<User.Role, Long> usersByRole;
+        private final Map<User.Status, Long> usersByStatus;
+        private final Map<String, Long> productsByCategory;
+        private long productsInStock;
+        private final Map<Order.Status, Long> ordersByStatus;
+        private BigDecimal totalRevenue;
+        private final LocalDateTime recentSince;
+        private long recentOrders;
+        private BigDecimal recentRevenue;
+        private final Map<String, BigDecimal> salesByCategory;
+
+        private Builder(LocalDateTime recentSince) {
+            this.usersByRole = new EnumMap<>(User.Role.class);
+            this.usersByStatus = new EnumMap<>(User.Status.class);
+            this.productsByCategory = new HashMap<>();
+            this.ordersByStatus = new EnumMap<>(Order.Status.class);
+            this.totalRevenue = BigDecimal.ZERO;
+            this.recentSince = recentSince;
+            this.recentRevenue = BigDecimal.ZERO;
+            this.salesByCategory = new HashMap<>();
+        }
+
+        private Builder(DashboardSnapshot snapshot) {
+            this.usersByRole = new EnumMap<>(User.Role.class);
+            this.usersByRole.putAll(snapshot.usersByRole);
+            this.usersByStatus = new EnumMap<>(User.Status.class);
+            this.usersByStatus.putAll(snapshot.usersByStatus);
+            this.productsByCategory = new HashMap<>(snapshot.productsByCategory);
+            this.productsInStock = snapshot.productsInStock;
+            this.ordersByStatus = new EnumMap<>(Order.Status.class);
+            this.ordersByStatus.putAll(snapshot.ordersByStatus);
+            this.totalRevenue = snapshot.totalRevenue;
+            this.recentSince = snapshot.recentSince;
+            this.recentOrders = snapshot.recentOrders;
+            this.recentRevenue = snapshot.recentRevenue;
+            this.salesByCategory = new HashMap<>(snapshot.salesByCategory);
+        }
+
+        public Builder addUsers(User.Role role, User.Status status, long delta) {
+            addCount(usersByRole, role, delta);
+            addCount(usersByStatus, status, delta);
+            return this;
+        }
+
+        public Builder addProducts(String category, long count, long inStock) {
+            addCount(productsByCategory, category, count);
+            productsInStock += inStock;
+            return this;
+        }
+
+        public Builder addProductsInStock(long delta) {
+            productsInStock += delta;
+            return this;
+        }
+
+        public Builder addOrders(Order.Status status, long count, BigDecimal revenue) {
+            addCount(ordersByStatus, status, count);
+            totalRevenue = totalRevenue.add(revenue);
+            return this;
+        }
+
+        public Builder addRecentOrders(long count, BigDecimal revenue) {
+            recentOrders += count;
+            recentRevenue = recentRevenue.add(revenue);
+            return this;
+        }
+
+        public Builder addSales(String category, BigDecimal amount) {
+            BigDecimal updated = salesByCategory.getOrDefault(category, BigDecimal.ZERO).add(amount);
+            if (updated.signum() == 0) {
+                salesByCategory.remove(category);
+            } else {
+                salesByCategory.put(category, updated);
+            }
+            return this;
+        }
+
+        public LocalDateTime getRecentSince() {
+            return recentSince;
+        }
+
+        public boolean isRecent(LocalDateTime orderDate) {
+            return orderDate != null && !orderDate.isBefore(recentSince);
+        }
+
+        public DashboardSnapshot build() {
+            return new DashboardSnapshot(this);
+        }
+
+        private static <K> void addCount(Map<K, Long> counts, K key, long delta) {
+            long updated = counts.getOrDefault(key, 0L) + delta;
+            if (updated <= 0) {
+                counts.remove(key);
+            } else {
+                counts.put(key, updated);
+            }
+        }
+    }
+}
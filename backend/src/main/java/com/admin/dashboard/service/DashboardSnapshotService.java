@@ -0,0 +1,221 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.User;
+import com.admin.dashboard.repository.ProductRepository;
+import com.admin.dashboard.repository.SalesDataRepository;
+import com.admin.dashboard.repository.UserRepository;
+import com.admin.dashboard.util.DeltaLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Owns the current {@link DashboardSnapshot}. Service mutations apply deltas
+ * after commit; a periodic rebuild recomputes everything from a handful of
+ * grouped queries, which also slides the "recent" window forward and repairs
+ * user and product drift from writes that bypass the services. Order figures
+ * come from the rollup tables, which such writes don't update either, so
+ * order drift is repaired once {@link OrderRollupService#reconcile()} has
+ * rebuilt them.
+ *
+ * <p>Deltas committed after a rebuild opened its read are replayed onto the
+ * rebuilt snapshot (see {@link DeltaLog}), so they are neither lost nor
+ * counted twice.
+ */
+@Service
+public class DashboardSnapshotService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Autowired
+    private SalesDataRepository salesDataRepository;
+
+    @Value("${dashboard.snapshot.recent-days:30}")
+    private int recentDays;
+
+    private final AtomicReference<DashboardSnapshot> current =
+            new AtomicReference<>(DashboardSnapshot.empty(LocalDateTime.now()));
+
+    private final DeltaLog<UnaryOperator<DashboardSnapshot.Builder>> deltas =
+            new DeltaLog<>(delta -> current.set(delta.apply(current.get().toBuilder()).build()));
+
+    private final TransactionTemplate rebuildTransaction;
+
+    // Not read-only: deltas describe committed primary state, which a lagging
+    // replica may not show yet. Repeatable read gives every query the same
+    // point in time, fixed by the first one.
+    public DashboardSnapshotService(PlatformTransactionManager transactionManager) {
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public DashboardSnapshot getSnapshot() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        orderRollupService.backfillIfEmpty();
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.snapshot.rebuild-interval-ms:300000}",
+               initialDelayString = "${dashboard.snapshot.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        rebuildTransaction.executeWithoutResult(status -> deltas.rebuild(
+                userRepository::countUsersByRoleAndStatus,
+                this::read,
+                (rebuilt, replay) -> {
+                    DashboardSnapshot snapshot = rebuilt;
+                    for (UnaryOperator<DashboardSnapshot.Builder> delta : replay) {
+                        snapshot = delta.apply(snapshot.toBuilder()).build();
+                    }
+                    current.set(snapshot);
+                }));
+    }
+
+    private DashboardSnapshot read(List<Object[]> usersByRoleAndStatus) {
+        DashboardSnapshot.Builder builder = DashboardSnapshot.empty(LocalDateTime.now().minusDays(recentDays)).toBuilder();
+
+        for (Object[] row : usersByRoleAndStatus) {
+            builder.addUsers((User.Role) row[0], (User.Status) row[1], toLong(row[2]));
+        }
+        for (Object[] row : productRepository.summarizeProductsByCategory()) {
+            builder.addProducts((String) row[0], toLong(row[1]), toLong(row[2]));
+        }
+        OrderTotals allOrders = orderRollupService.summarizeAll();
+        allOrders.getCountByStatus().forEach((status, count) ->
+                builder.addOrders(status, count, allOrders.getRevenueByStatus().get(status)));
+        OrderTotals recent = orderRollupService.summarizeSince(builder.getRecentSince());
+        builder.addRecentOrders(recent.getOrderCount(), recent.getRevenue());
+        for (Object[] row : salesDataRepository.getSalesByCategory()) {
+            builder.addSales((String) row[0], toDecimal(row[1]));
+        }
+        return builder.build();
+    }
+
+    public void userCreated(User user) {
+        apply(b -> b.addUsers(user.getRole(), user.getStatus(), 1));
+    }
+
+    public void userChanged(User.Role oldRole, User.Status oldStatus, User user) {
+        if (oldRole == user.getRole() && oldStatus == user.getStatus()) {
+            return;
+        }
+        apply(b -> b.addUsers(oldRole, oldStatus, -1).addUsers(user.getRole(), user.getStatus(), 1));
+    }
+
+    public void userDeleted(User user) {
+        apply(b -> b.addUsers(user.getRole(), user.getStatus(), -1));
+    }
+
+    public void productCreated(String category, Integer stock) {
+        apply(b -> b.addProducts(category, 1, inStock(stock)));
+    }
+
+    public void productChanged(String oldCategory, Integer oldStock, String category, Integer stock) {
+        if (Objects.equals(oldCategory, category) && inStock(oldStock) == inStock(stock)) {
+            return;
+        }
+        apply(b -> b.addProducts(oldCategory, -1, -inStock(oldStock)).addProducts(category, 1, inStock(stock)));
+    }
+
+    public void productDeleted(String category, Integer stock) {
+        apply(b -> b.addProducts(category, -1, -inStock(stock)));
+    }
+
+    /**
+     * Products whose stock an order reservation took to zero.
+     */
+    public void productsSoldOut(long count) {
+        if (count > 0) {
+            apply(b -> b.addProductsInStock(-count));
+        }
+    }
+
+    public void orderCreated(Order order) {
+        Order.Status status = order.getStatus();
+        BigDecimal total = order.getTotal();
+        LocalDateTime orderDate = order.getOrderDate();
+        apply(b -> addOrder(b, status, total, orderDate, 1));
+    }
+
+    public void orderChanged(Order.Status oldStatus, BigDecimal oldTotal, Order order) {
+        Order.Status status = order.getStatus();
+        BigDecimal total = order.getTotal();
+        LocalDateTime orderDate = order.getOrderDate();
+        apply(b -> {
+            addOrder(b, oldStatus, oldTotal, orderDate, -1);
+            return addOrder(b, status, total, orderDate, 1);
+        });
+    }
+
+    public void orderDeleted(Order order) {
+        Order.Status status = order.getStatus();
+        BigDecimal total = order.getTotal();
+        LocalDateTime orderDate = order.getOrderDate();
+        apply(b -> addOrder(b, status, total, orderDate, -1));
+    }
+
+    public void salesChanged(String oldCategory, BigDecimal oldSales, String category, BigDecimal sales) {
+        apply(b -> {
+            if (oldSales != null) {
+                b.addSales(oldCategory, oldSales.negate());
+            }
+            if (sales != null) {
+                b.addSales(category, sales);
+            }
+            return b;
+        });
+    }
+
+    private DashboardSnapshot.Builder addOrder(DashboardSnapshot.Builder builder, Order.Status status,
+                                               BigDecimal total, LocalDateTime orderDate, int sign) {
+        BigDecimal revenue = sign < 0 ? total.negate() : total;
+        builder.addOrders(status, sign, revenue);
+        if (builder.isRecent(orderDate)) {
+            builder.addRecentOrders(sign, revenue);
+        }
+        return builder;
+    }
+
+    private void apply(UnaryOperator<DashboardSnapshot.Builder> delta) {
+        deltas.afterCommit(delta);
+    }
+
+    private static long inStock(Integer stock) {
+        return stock != null && stock > 0 ? 1 : 0;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+}
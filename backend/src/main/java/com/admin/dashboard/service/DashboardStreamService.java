@@ -0,0 +1,247 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.config.SchedulingConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes the dashboard overview to Server-Sent Events subscribers.
+ *
+ * <p>Once per interval, and only while someone is subscribed, the current
+ * {@link DashboardSnapshot} is compared with the last one pushed. Snapshots
+ * are replaced on every change, so any burst of writes between two ticks
+ * costs one serialization and one frame, and the same bytes go to every
+ * subscriber. Quiet streams get a heartbeat comment instead.
+ *
+ * <p>Connections use non-blocking servlet I/O and hold no thread while idle.
+ * A frame is written only while the client's socket can take it; otherwise
+ * it waits as the client's single pending frame and is replaced by the next
+ * one, so a slow reader skips to the latest overview instead of queueing.
+ */
+@Service
+public class DashboardStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStreamService.class);
+
+    private static final byte[] HEARTBEAT = ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${dashboard.stream.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${dashboard.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private Counter framesDropped;
+
+    private final AtomicReference<Frame> latest = new AtomicReference<>();
+    // Touched only by the scheduler thread
+    private long lastWriteAt;
+
+    private record Frame(DashboardSnapshot snapshot, byte[] bytes) {}
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("dashboard.stream.subscribers", subscribers, Set::size)
+                .description("Open /dashboard/stream connections")
+                .register(meterRegistry);
+        framesDropped = Counter.builder("dashboard.stream.frames.dropped")
+                .description("Overview frames replaced before a slow client could take them")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        subscribers.forEach(Subscriber::close);
+    }
+
+    public void subscribe(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext context = request.startAsync(request, response);
+        context.setTimeout(timeoutMs);
+        Subscriber subscriber = new Subscriber(context, response.getOutputStream());
+        context.addListener(subscriber);
+        subscribers.add(subscriber);
+        Frame frame = latest.get();
+        if (frame == null) {
+            DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot();
+            latest.compareAndSet(null, new Frame(snapshot, render(snapshot)));
+            frame = latest.get();
+        }
+        // Unless a tick has already queued a newer frame for it
+        subscriber.offerIfIdle(frame.bytes());
+        // Write only from the listener from now on; the container calls it once ready
+        subscriber.out.setWriteListener(subscriber);
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stream.interval-ms:1000}", scheduler = SchedulingConfig.REALTIME)
+    public void tick() {
+        if (subscribers.isEmpty()) {
+            latest.set(null);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot();
+        Frame frame = latest.get();
+        if (frame == null || frame.snapshot() != snapshot) {
+            Frame next = new Frame(snapshot, render(snapshot));
+            latest.set(next);
+            lastWriteAt = now;
+            subscribers.forEach(subscriber -> subscriber.offer(next.bytes()));
+        } else if (now - lastWriteAt >= heartbeatIntervalMs) {
+            lastWriteAt = now;
+            subscribers.forEach(Subscriber::heartbeat);
+        }
+    }
+
+    private byte[] render(DashboardSnapshot snapshot) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(snapshot.toOverview());
+            byte[] prefix = "event:overview\ndata:".getBytes(StandardCharsets.UTF_8);
+            byte[] frame = new byte[prefix.length + json.length + 2];
+            System.arraycopy(prefix, 0, frame, 0, prefix.length);
+            System.arraycopy(json, 0, frame, prefix.length, json.length);
+            frame[frame.length - 2] = '\n';
+            frame[frame.length - 1] = '\n';
+            return frame;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the dashboard overview", e);
+        }
+    }
+
+    private final class Subscriber implements WriteListener, AsyncListener {
+
+        private final AsyncContext context;
+        private final ServletOutputStream out;
+
+        // Latest frame not yet handed to the container; guarded by this
+        private byte[] pending;
+        private boolean listening;
+        private boolean closed;
+
+        Subscriber(AsyncContext context, ServletOutputStream out) {
+            this.context = context;
+            this.out = out;
+        }
+
+        synchronized void offer(byte[] next) {
+            if (pending != null && pending != HEARTBEAT) {
+                framesDropped.increment();
+            }
+            pending = next;
+            drain();
+        }
+
+        synchronized void heartbeat() {
+            offerIfIdle(HEARTBEAT);
+        }
+
+        synchronized void offerIfIdle(byte[] next) {
+            if (pending == null) {
+                pending = next;
+                drain();
+            }
+        }
+
+        @Override
+        public synchronized void onWritePossible() {
+            listening = true;
+            drain();
+        }
+
+        // isReady() returning false arms onWritePossible, which drains the rest
+        private void drain() {
+            if (!listening || closed) {
+                return;
+            }
+            try {
+                while (pending != null && out.isReady()) {
+                    byte[] next = pending;
+                    pending = null;
+                    out.write(next);
+                    if (out.isReady()) {
+                        out.flush();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dashboard stream write failed: {}", e.getMessage());
+                close();
+            }
+        }
+
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                subscribers.remove(this);
+                try {
+                    context.complete();
+                } catch (IllegalStateException e) {
+                    // already completed by the container
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            subscribers.remove(this);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.Product;
+import com.admin.dashboard.entity.User;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Streams whole tables as CSV or NDJSON. Rows are read through a forward-only
+ * cursor and the persistence context is cleared every few hundred rows, so
+ * heap use stays flat no matter how many rows are exported.
+ */
+@Service
+public class ExportService {
+
+    public enum Format {
+        CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+        NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() { return extension; }
+
+        public MediaType getMediaType() { return mediaType; }
+
+        public static Format from(String value) {
+            return Format.valueOf(value.trim().toUpperCase());
+        }
+    }
+
+    private static final Map<String, Function<Order, Object>> ORDER_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Function<Product, Object>> PRODUCT_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Function<User, Object>> USER_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        ORDER_COLUMNS.put("id", Order::getId);
+        ORDER_COLUMNS.put("orderId", Order::getOrderId);
+        ORDER_COLUMNS.put("customer", Order::getCustomer);
+        ORDER_COLUMNS.put("total", Order::getTotal);
+        ORDER_COLUMNS.put("status", Order::getStatus);
+        ORDER_COLUMNS.put("orderDate", Order::getOrderDate);
+        ORDER_COLUMNS.put("createdAt", Order::getCreatedAt);
+
+        PRODUCT_COLUMNS.put("id", Product::getId);
+        PRODUCT_COLUMNS.put("name", Product::getName);
+        PRODUCT_COLUMNS.put("category", Product::getCategory);
+        PRODUCT_COLUMNS.put("price", Product::getPrice);
+        PRODUCT_COLUMNS.put("stock", Product::getStock);
+        PRODUCT_COLUMNS.put("sales", Product::getSales);
+        PRODUCT_COLUMNS.put("imageUrl", Product::getImageUrl);
+        PRODUCT_COLUMNS.put("createdAt", Product::getCreatedAt);
+
+        // Password hashes are never exported
+        USER_COLUMNS.put("id", User::getId);
+        USER_COLUMNS.put("name", User::getName);
+        USER_COLUMNS.put("email", User::getEmail);
+        USER_COLUMNS.put("role", User::getRole);
+        USER_COLUMNS.put("status", User::getStatus);
+        USER_COLUMNS.put("createdAt", User::getCreatedAt);
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${export.clear-interval:500}")
+    private int clearInterval;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void exportOrders(Format format, OutputStream out) throws IOException {
+        export("SELECT o FROM Order o ORDER BY o.id", Order.class, ORDER_COLUMNS, format, out);
+    }
+
+    public void exportProducts(Format format, OutputStream out) throws IOException {
+        export("SELECT p FROM Product p ORDER BY p.id", Product.class, PRODUCT_COLUMNS, format, out);
+    }
+
+    public void exportUsers(Format format, OutputStream out) throws IOException {
+        export("SELECT u FROM User u ORDER BY u.id", User.class, USER_COLUMNS, format, out);
+    }
+
+    private <T> void export(String jpql, Class<T> type, Map<String, Function<T, Object>> columns,
+                            Format format, OutputStream out) throws IOException {
+        try (RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            writer.writeHeader(columns.keySet());
+            readOnlyTransaction.executeWithoutResult(tx -> {
+                Session session = entityManager.unwrap(Session.class);
+                try (ScrollableResults<T> rows = session.createQuery(jpql, type)
+                        .setReadOnly(true)
+                        .setFetchSize(fetchSize)
+                        .setCacheMode(CacheMode.IGNORE)
+                        .scroll(ScrollMode.FORWARD_ONLY)) {
+                    long count = 0;
+                    while (rows.next()) {
+                        writer.writeRow(rows.get(), columns);
+                        if (++count % clearInterval == 0) {
+                            session.clear();
+                            writer.flush();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void writeHeader(Iterable<String> names) throws IOException;
+
+        <T> void writeRow(T row, Map<String, Function<T, Object>> columns) throws IOException;
+
+        void flush() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer out;
+
+        CsvRowWriter(OutputStream out) {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        }
+
+        @Override
+        public void writeHeader(Iterable<String> names) throws IOException {
+            boolean first = true;
+            for (String name : names) {
+                if (!first) {
+                    out.write(',');
+                }
+                out.write(name);
+                first = false;
+            }
+            out.write('\n');
+        }
+
+        @Override
+        public <T> void writeRow(T row, Map<String, Function<T, Object>> columns) throws IOException {
+            boolean first = true;
+            for (Function<T, Object> column : columns.values()) {
+                if (!first) {
+                    out.write(',');
+                }
+                writeValue(column.apply(row));
+                first = false;
+            }
+            out.write('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                out.write(text);
+                return;
+            }
+            out.write('"');
+            out.write(text.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader(Iterable<String> names) {
+            // NDJSON rows are self-describing
+        }
+
+        @Override
+        public <T> void writeRow(T row, Map<String, Function<T, Object>> columns) throws IOException {
+            generator.writeStartObject();
+            for (Map.Entry<String, Function<T, Object>> column : columns.entrySet()) {
+                generator.writeFieldName(column.getKey());
+                generator.writeObject(column.getValue().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+        }
+    }
+}
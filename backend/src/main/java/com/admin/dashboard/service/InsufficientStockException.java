@@ -0,0 +1,20 @@
+package com.admin.dashboard.service;
+
+/**
+ * Thrown when an order asks for more of a product than is left in stock.
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long productId;
+
+    public InsufficientStockException(Long productId) {
+        super("Insufficient stock for product " + productId);
+        this.productId = productId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+}
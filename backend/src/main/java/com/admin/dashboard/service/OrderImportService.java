@@ -0,0 +1,229 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.OrderItem;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk order ingestion. The request body is read as a stream of JSON array
+ * elements, so memory is bounded by the chunk size rather than the payload.
+ * Each chunk of valid orders is persisted in one transaction with JDBC insert
+ * batching; if a chunk fails, its orders are retried one by one so a single
+ * bad record only fails itself. Items take stock like a checkout does, so an
+ * order for more than is left fails on its own.
+ */
+@Service
+public class OrderImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderImportService.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private TopSellerService topSellerService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${orders.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderImportService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Map<String, Object> importOrders(InputStream body) throws IOException {
+        List<Map<String, Object>> results = new ArrayList<>();
+        Map<String, Object> response = new HashMap<>();
+        List<Order> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Request body must be a JSON array of orders");
+            }
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode node = parser.readValueAsTree();
+                String error = null;
+                Order order = null;
+                try {
+                    order = objectMapper.treeToValue(node, Order.class);
+                    error = prepare(order);
+                } catch (JsonProcessingException e) {
+                    error = e.getOriginalMessage();
+                }
+
+                if (error != null) {
+                    results.add(failure(index, error));
+                } else {
+                    chunk.add(order);
+                    chunkIndexes.add(index);
+                    if (chunk.size() >= chunkSize) {
+                        flushChunk(chunk, chunkIndexes, results);
+                    }
+                }
+                index++;
+            }
+        } catch (JsonProcessingException e) {
+            // Orders before the syntax error are still imported; nothing after it can be read
+            response.put("error", "Malformed JSON: " + e.getOriginalMessage());
+        } finally {
+            flushChunk(chunk, chunkIndexes, results);
+        }
+
+        results.sort((a, b) -> Integer.compare((Integer) a.get("index"), (Integer) b.get("index")));
+        long created = results.stream().filter(r -> "CREATED".equals(r.get("status"))).count();
+        response.put("created", created);
+        response.put("failed", results.size() - created);
+        response.put("results", results);
+        return response;
+    }
+
+    /**
+     * Applies the same defaults as createOrder and validates the record.
+     *
+     * @return an error message, or null when the order can be persisted
+     */
+    private String prepare(Order order) {
+        if (order.getOrderItems() == null) {
+            order.setOrderItems(new ArrayList<>());
+        }
+        for (OrderItem item : order.getOrderItems()) {
+            if (item.getProduct() == null || item.getProduct().getId() == null) {
+                return "Every order item needs a product id";
+            }
+            String itemError = firstViolation(validator.validate(item));
+            if (itemError != null) {
+                return itemError;
+            }
+            item.setOrder(order);
+        }
+        if (!order.getOrderItems().isEmpty()) {
+            order.setTotal(order.getOrderItems().stream()
+                    .map(OrderItem::getTotalPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add));
+        }
+        return firstViolation(validator.validate(order));
+    }
+
+    private void flushChunk(List<Order> chunk, List<Integer> indexes, List<Map<String, Object>> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            persist(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(success(indexes.get(i), chunk.get(i)));
+            }
+        } catch (RuntimeException chunkFailure) {
+            log.debug("Bulk chunk of {} orders failed, retrying individually", chunk.size(), chunkFailure);
+            for (int i = 0; i < chunk.size(); i++) {
+                Order order = chunk.get(i);
+                resetIds(order);
+                try {
+                    persist(List.of(order));
+                    results.add(success(indexes.get(i), order));
+                } catch (RuntimeException e) {
+                    results.add(failure(indexes.get(i), NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                }
+            }
+        }
+        chunk.clear();
+        indexes.clear();
+    }
+
+    private void persist(List<Order> orders) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            Map<Long, Integer> quantityByProductId = new HashMap<>();
+            for (Order order : orders) {
+                entityManager.persist(order);
+                for (OrderItem item : order.getOrderItems()) {
+                    quantityByProductId.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+                }
+            }
+            entityManager.flush();
+            productService.reserveStock(quantityByProductId);
+            orderRollupService.ordersCreated(orders);
+            for (Order order : orders) {
+                dashboardSnapshotService.orderCreated(order);
+                searchIndexService.orderSaved(order);
+                topSellerService.orderCreated(order);
+            }
+            entityManager.clear();
+        });
+    }
+
+    private static void resetIds(Order order) {
+        order.setId(null);
+        order.getOrderItems().forEach(item -> item.setId(null));
+    }
+
+    private static String firstViolation(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Map<String, Object> success(int index, Order order) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("index", index);
+        result.put("status", "CREATED");
+        result.put("id", order.getId());
+        result.put("orderId", order.getOrderId());
+        return result;
+    }
+
+    private static Map<String, Object> failure(int index, String message) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("index", index);
+        result.put("status", "FAILED");
+        result.put("error", message);
+        return result;
+    }
+}
@@ -0,0 +1,295 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.entity.DailyOrderRollup;
+import com.admin.dashboard.entity.HourlyOrderRollup;
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.OrderRollup;
+import com.admin.dashboard.repository.DailyOrderRollupRepository;
+import com.admin.dashboard.repository.HourlyOrderRollupRepository;
+import com.admin.dashboard.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Maintains hourly and daily order count/revenue rollups per status and
+ * answers range queries from them. A range is split into whole days, whole
+ * hours at either side of those days, and sub-hour edges read from the raw
+ * orders table, so the cost stays flat regardless of order history size.
+ */
+@Service
+@Transactional
+public class OrderRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderRollupService.class);
+
+    private static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    @Autowired
+    private HourlyOrderRollupRepository hourlyRollupRepository;
+
+    @Autowired
+    private DailyOrderRollupRepository dailyRollupRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String hourlyUpsert;
+    private final String dailyUpsert;
+    private final TransactionTemplate checkTransaction;
+    private final TransactionTemplate rebuildTransaction;
+
+    public OrderRollupService(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        boolean h2 = "H2".equals(databaseProductName(dataSource));
+        this.hourlyUpsert = upsertSql("order_rollup_hourly", h2);
+        this.dailyUpsert = upsertSql("order_rollup_daily", h2);
+        // Not read-only: a lagging replica would report drift that isn't there.
+        // Repeatable read compares both sides at one point in time; an order and
+        // its upserts commit together, so in-flight orders never look like drift.
+        this.checkTransaction = new TransactionTemplate(transactionManager);
+        this.checkTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void orderCreated(Order order) {
+        record(order.getOrderDate(), order.getStatus(), 1, order.getTotal());
+    }
+
+    /**
+     * Records a batch of new orders with one bucket update per distinct hour/day and status.
+     */
+    public void ordersCreated(Collection<Order> orders) {
+        Map<BucketKey, OrderTotals> hourly = new HashMap<>();
+        Map<BucketKey, OrderTotals> daily = new HashMap<>();
+        for (Order order : orders) {
+            hourly.computeIfAbsent(new BucketKey(order.getOrderDate().truncatedTo(ChronoUnit.HOURS), order.getStatus()),
+                    key -> new OrderTotals()).add(order.getStatus(), 1, order.getTotal());
+            daily.computeIfAbsent(new BucketKey(order.getOrderDate().truncatedTo(ChronoUnit.DAYS), order.getStatus()),
+                    key -> new OrderTotals()).add(order.getStatus(), 1, order.getTotal());
+        }
+        hourly.forEach((key, totals) -> addToBucket(hourlyUpsert, key.start(), key.status(),
+                totals.getOrderCount(), totals.getRevenue()));
+        daily.forEach((key, totals) -> addToBucket(dailyUpsert, key.start(), key.status(),
+                totals.getOrderCount(), totals.getRevenue()));
+    }
+
+    public void orderChanged(Order.Status oldStatus, BigDecimal oldTotal, Order order) {
+        if (oldStatus == order.getStatus() && Objects.equals(oldTotal, order.getTotal())) {
+            return;
+        }
+        record(order.getOrderDate(), oldStatus, -1, oldTotal.negate());
+        record(order.getOrderDate(), order.getStatus(), 1, order.getTotal());
+    }
+
+    public void orderDeleted(Order order) {
+        record(order.getOrderDate(), order.getStatus(), -1, order.getTotal().negate());
+    }
+
+    /**
+     * Totals for orders with {@code from <= orderDate < to}.
+     */
+    @Transactional(readOnly = true)
+    public OrderTotals summarize(LocalDateTime from, LocalDateTime to) {
+        OrderTotals totals = new OrderTotals();
+        if (!from.isBefore(to)) {
+            return totals;
+        }
+
+        LocalDateTime firstHour = ceilHour(from);
+        LocalDateTime lastHour = to.truncatedTo(ChronoUnit.HOURS);
+        if (!firstHour.isBefore(lastHour)) {
+            totals.addRows(orderRepository.summarizeOrdersBetween(from, to));
+            return totals;
+        }
+        addRaw(totals, from, firstHour);
+        addRaw(totals, lastHour, to);
+
+        LocalDateTime firstDay = ceilDay(firstHour);
+        LocalDateTime lastDay = lastHour.truncatedTo(ChronoUnit.DAYS);
+        if (!firstDay.isBefore(lastDay)) {
+            totals.addRows(hourlyRollupRepository.summarizeBuckets(firstHour, lastHour));
+            return totals;
+        }
+        addHourly(totals, firstHour, firstDay);
+        totals.addRows(dailyRollupRepository.summarizeBuckets(firstDay, lastDay));
+        addHourly(totals, lastDay, lastHour);
+        return totals;
+    }
+
+    /**
+     * Totals for every order dated on or after {@code from}, including future-dated ones.
+     */
+    @Transactional(readOnly = true)
+    public OrderTotals summarizeSince(LocalDateTime from) {
+        return summarize(from, OPEN_END);
+    }
+
+    @Transactional(readOnly = true)
+    public OrderTotals summarizeAll() {
+        OrderTotals totals = new OrderTotals();
+        totals.addRows(dailyRollupRepository.summarizeAllBuckets());
+        return totals;
+    }
+
+    /**
+     * Seeds the rollups from the orders table when they are empty, e.g. on first
+     * start or after orders were loaded outside the services.
+     */
+    public void backfillIfEmpty() {
+        if (dailyRollupRepository.count() == 0 && orderRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the rollups when their per-status counts or revenue no longer
+     * match the orders table: orders inserted, edited or deleted outside the
+     * services, or a write that failed between the order and its upserts.
+     */
+    @Scheduled(fixedDelayString = "${orders.rollup.reconcile-interval-ms:3600000}",
+               initialDelayString = "${orders.rollup.reconcile-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        Boolean drifted = checkTransaction.execute(status -> {
+            OrderTotals orders = new OrderTotals();
+            orders.addRows(orderRepository.summarizeAllOrders());
+            OrderTotals rollups = new OrderTotals();
+            rollups.addRows(dailyRollupRepository.summarizeAllBuckets());
+            return !sameTotals(orders, rollups);
+        });
+        if (!Boolean.TRUE.equals(drifted)) {
+            return;
+        }
+        log.warn("Order rollups no longer match the orders table, rebuilding them");
+        // Its own transaction, so the rebuild reads the orders after taking the rollup rows
+        rebuildTransaction.executeWithoutResult(status -> rebuild());
+    }
+
+    public void rebuild() {
+        hourlyRollupRepository.deleteAllInBatch();
+        dailyRollupRepository.deleteAllInBatch();
+
+        Map<BucketKey, HourlyOrderRollup> hourly = new HashMap<>();
+        Map<BucketKey, DailyOrderRollup> daily = new HashMap<>();
+        try (Stream<Object[]> rows = orderRepository.streamRollupSource()) {
+            rows.forEach(row -> {
+                LocalDateTime orderDate = (LocalDateTime) row[0];
+                Order.Status status = (Order.Status) row[1];
+                BigDecimal total = (BigDecimal) row[2];
+                accumulate(hourly, orderDate.truncatedTo(ChronoUnit.HOURS), status, total, HourlyOrderRollup::new);
+                accumulate(daily, orderDate.truncatedTo(ChronoUnit.DAYS), status, total, DailyOrderRollup::new);
+            });
+        }
+        hourlyRollupRepository.saveAll(hourly.values());
+        dailyRollupRepository.saveAll(daily.values());
+        log.info("Rebuilt order rollups: {} hourly and {} daily buckets", hourly.size(), daily.size());
+    }
+
+    private void record(LocalDateTime orderDate, Order.Status status, long count, BigDecimal revenue) {
+        addToBucket(hourlyUpsert, orderDate.truncatedTo(ChronoUnit.HOURS), status, count, revenue);
+        addToBucket(dailyUpsert, orderDate.truncatedTo(ChronoUnit.DAYS), status, count, revenue);
+    }
+
+    /**
+     * Adds to a bucket, creating it if this is its first order, in one statement
+     * inside the caller's transaction. A separate insert after an UPDATE that
+     * matched nothing would wait on the gap lock InnoDB gave that UPDATE.
+     */
+    private void addToBucket(String upsert, LocalDateTime bucketStart, Order.Status status,
+                             long count, BigDecimal revenue) {
+        jdbcTemplate.update(upsert, Timestamp.valueOf(bucketStart), status.name(), count, revenue, count, revenue);
+    }
+
+    private static String upsertSql(String table, boolean h2) {
+        if (h2) {
+            return "MERGE INTO " + table + " r USING (VALUES (CAST(? AS TIMESTAMP), CAST(? AS VARCHAR(255)), " +
+                   "CAST(? AS BIGINT), CAST(? AS DECIMAL(15, 2)))) AS d(bucket_start, status, order_count, revenue) " +
+                   "ON r.bucket_start = d.bucket_start AND r.status = d.status " +
+                   "WHEN MATCHED THEN UPDATE SET order_count = r.order_count + ?, revenue = r.revenue + ? " +
+                   "WHEN NOT MATCHED THEN INSERT (bucket_start, status, order_count, revenue) " +
+                   "VALUES (d.bucket_start, d.status, d.order_count, d.revenue)";
+        }
+        return "INSERT INTO " + table + " (bucket_start, status, order_count, revenue) VALUES (?, ?, ?, ?) " +
+               "ON DUPLICATE KEY UPDATE order_count = order_count + ?, revenue = revenue + ?";
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not determine the database for rollup upserts, assuming MySQL: {}", e.getMessage());
+            return "MySQL";
+        }
+    }
+
+    private void addRaw(OrderTotals totals, LocalDateTime from, LocalDateTime to) {
+        if (from.isBefore(to)) {
+            totals.addRows(orderRepository.summarizeOrdersBetween(from, to));
+        }
+    }
+
+    private void addHourly(OrderTotals totals, LocalDateTime from, LocalDateTime to) {
+        if (from.isBefore(to)) {
+            totals.addRows(hourlyRollupRepository.summarizeBuckets(from, to));
+        }
+    }
+
+    private static <T extends OrderRollup> void accumulate(Map<BucketKey, T> buckets, LocalDateTime bucketStart,
+                                                           Order.Status status, BigDecimal total,
+                                                           BiFunction<LocalDateTime, Order.Status, T> emptyBucket) {
+        T bucket = buckets.computeIfAbsent(new BucketKey(bucketStart, status),
+                key -> emptyBucket.apply(key.start(), key.status()));
+        bucket.setOrderCount(bucket.getOrderCount() + 1);
+        bucket.setRevenue(bucket.getRevenue().add(total));
+    }
+
+    private static boolean sameTotals(OrderTotals a, OrderTotals b) {
+        for (Order.Status status : Order.Status.values()) {
+            if (a.getCountByStatus().getOrDefault(status, 0L).longValue()
+                    != b.getCountByStatus().getOrDefault(status, 0L).longValue()
+                    || a.getRevenueByStatus().getOrDefault(status, BigDecimal.ZERO)
+                    .compareTo(b.getRevenueByStatus().getOrDefault(status, BigDecimal.ZERO)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDateTime ceilHour(LocalDateTime time) {
+        LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+        return hour.equals(time) ? hour : hour.plusHours(1);
+    }
+
+    private static LocalDateTime ceilDay(LocalDateTime time) {
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        return day.equals(time) ? day : day.plusDays(1);
+    }
+
+    private record BucketKey(LocalDateTime start, Order.Status status) {}
+}
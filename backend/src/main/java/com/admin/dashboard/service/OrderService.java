@@ -1,17 +1,25 @@
 package com.admin.dashboard.service;
 
+import com.admin.dashboard.dto.OrderSummary;
 import com.admin.dashboard.entity.Order;
 import com.admin.dashboard.entity.OrderItem;
 import com.admin.dashboard.repository.OrderRepository;
+import com.admin.dashboard.repository.SearchSpecifications;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -24,29 +32,59 @@ public class OrderService {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private TopSellerService topSellerService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
         return orderRepository.findAll();
     }
 
-    public Page<Order> getAllOrders(Pageable pageable) {
-        return orderRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Page<OrderSummary> getAllOrders(Pageable pageable) {
+        return orderRepository.findSummaries(pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Order> getOrderById(Long id) {
-        return orderRepository.findById(id);
+        return orderRepository.findWithItemsById(id);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Order> getOrderByOrderId(String orderId) {
         return orderRepository.findByOrderId(orderId);
     }
 
-    public Page<Order> searchOrders(String searchTerm, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<OrderSummary> searchOrders(String searchTerm, Pageable pageable) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return getAllOrders(pageable);
         }
-        return orderRepository.findBySearchTerm(searchTerm.trim(), pageable);
+        String term = searchTerm.trim();
+        return searchIndexService.searchOrders(term, pageable)
+                .orElseGet(() -> orderRepository.findSummariesBySearchTerm(term, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<OrderSummary> scrollOrders(String searchTerm, ScrollPosition position, Sort sort, int limit) {
+        Specification<Order> spec = searchTerm == null || searchTerm.trim().isEmpty()
+                ? Specification.where(null)
+                : searchIndexService.orderSpecification(searchTerm.trim())
+                        .orElseGet(() -> SearchSpecifications.orderSearch(searchTerm));
+        return orderRepository.findBy(spec,
+                query -> query.sortBy(sort).limit(limit).scroll(position)).map(OrderSummary::from);
     }
 
+    @Transactional(readOnly = true)
     public List<Order> getOrdersByStatus(Order.Status status) {
         return orderRepository.findByStatus(status);
     }
@@ -58,13 +96,22 @@ public class OrderService {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         order.setTotal(total);
+        order.getOrderItems().forEach(item -> item.setOrder(order));
 
         Order savedOrder = orderRepository.save(order);
+        dashboardSnapshotService.orderCreated(savedOrder);
+        searchIndexService.orderSaved(savedOrder);
+        topSellerService.orderCreated(savedOrder);
 
-        // Update product sales
+        // Take stock and add sales in one conditional batch, one row per distinct product
+        Map<Long, Integer> quantityByProductId = new HashMap<>();
         for (OrderItem item : order.getOrderItems()) {
-            productService.updateProductSales(item.getProduct().getId(), item.getQuantity());
+            quantityByProductId.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
         }
+        productService.reserveStock(quantityByProductId);
+
+        // Last, so the shared rollup bucket rows stay locked for as short as possible
+        orderRollupService.orderCreated(savedOrder);
 
         return savedOrder;
     }
@@ -72,47 +119,68 @@ public class OrderService {
     public Order updateOrder(Long id, Order orderDetails) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
+        Order.Status oldStatus = order.getStatus();
+        BigDecimal oldTotal = order.getTotal();
 
         order.setCustomer(orderDetails.getCustomer());
         order.setTotal(orderDetails.getTotal());
         order.setStatus(orderDetails.getStatus());
 
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        orderRollupService.orderChanged(oldStatus, oldTotal, savedOrder);
+        dashboardSnapshotService.orderChanged(oldStatus, oldTotal, savedOrder);
+        searchIndexService.orderSaved(savedOrder);
+        return savedOrder;
     }
 
     public Order updateOrderStatus(Long id, Order.Status status) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
+        Order.Status oldStatus = order.getStatus();
 
         order.setStatus(status);
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        orderRollupService.orderChanged(oldStatus, savedOrder.getTotal(), savedOrder);
+        dashboardSnapshotService.orderChanged(oldStatus, savedOrder.getTotal(), savedOrder);
+        return savedOrder;
     }
 
     public void deleteOrder(Long id) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found");
-        }
-        orderRepository.deleteById(id);
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found"));
+        orderRepository.delete(order);
+        orderRollupService.orderDeleted(order);
+        dashboardSnapshotService.orderDeleted(order);
+        searchIndexService.orderDeleted(order.getId());
     }
 
+    @Transactional(readOnly = true)
     public List<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         return orderRepository.findOrdersByDateRange(startDate, endDate);
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalRevenueByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        BigDecimal revenue = orderRepository.getTotalRevenueByDateRange(startDate, endDate);
-        return revenue != null ? revenue : BigDecimal.ZERO;
+        return getOrderTotalsByDateRange(startDate, endDate).getRevenue();
+    }
+
+    @Transactional(readOnly = true)
+    public OrderTotals getOrderTotalsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        // Inclusive end like BETWEEN; one microsecond is the finest timestamp precision we store
+        return orderRollupService.summarize(startDate, endDate.plusNanos(1_000));
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalRevenue() {
-        BigDecimal revenue = orderRepository.getTotalRevenue();
-        return revenue != null ? revenue : BigDecimal.ZERO;
+        return orderRollupService.summarizeAll().getRevenue();
     }
 
+    @Transactional(readOnly = true)
     public long getOrderCountByStatus(Order.Status status) {
         return orderRepository.countByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getOrderCountByStatus() {
         return orderRepository.countOrdersByStatus();
     }
@@ -0,0 +1,47 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.entity.Order;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Order count and revenue per status for a time range.
+ */
+public class OrderTotals {
+
+    private final Map<Order.Status, Long> countByStatus = new EnumMap<>(Order.Status.class);
+    private final Map<Order.Status, BigDecimal> revenueByStatus = new EnumMap<>(Order.Status.class);
+
+    void add(Order.Status status, long count, BigDecimal revenue) {
+        countByStatus.merge(status, count, Long::sum);
+        revenueByStatus.merge(status, revenue, BigDecimal::add);
+    }
+
+    void addRows(Iterable<Object[]> rows) {
+        for (Object[] row : rows) {
+            long count = row[1] != null ? ((Number) row[1]).longValue() : 0L;
+            BigDecimal revenue = row[2] == null ? BigDecimal.ZERO
+                    : row[2] instanceof BigDecimal ? (BigDecimal) row[2] : new BigDecimal(row[2].toString());
+            add((Order.Status) row[0], count, revenue);
+        }
+    }
+
+    public long getOrderCount() {
+        return countByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public BigDecimal getRevenue() {
+        return revenueByStatus.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public Map<Order.Status, Long> getCountByStatus() {
+        return Collections.unmodifiableMap(countByStatus);
+    }
+
+    public Map<Order.Status, BigDecimal> getRevenueByStatus() {
+        return Collections.unmodifiableMap(revenueByStatus);
+    }
+}
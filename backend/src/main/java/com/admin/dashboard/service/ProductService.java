@@ -1,16 +1,38 @@
 package com.admin.dashboard.service;
 
+import com.admin.dashboard.dto.ProductSummary;
 import com.admin.dashboard.entity.Product;
 import com.admin.dashboard.repository.ProductRepository;
+import com.admin.dashboard.repository.SearchSpecifications;
+import com.admin.dashboard.retry.RetryOnConflict;
+import com.admin.dashboard.retry.StaleVersionException;
+import com.admin.dashboard.util.SlidingWindowCounter;
+import com.admin.dashboard.util.TransactionHooks;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Service
 @Transactional
@@ -19,36 +41,87 @@ public class ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private TopSellerService topSellerService;
+
+    @Autowired
+    private StockAlertService stockAlertService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
-    public Page<Product> getAllProducts(Pageable pageable) {
-        return productRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Page<ProductSummary> getAllProducts(Pageable pageable) {
+        return productRepository.findSummaries(pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Product> getProductById(Long id) {
         return productRepository.findById(id);
     }
 
-    public Page<Product> searchProducts(String searchTerm, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ProductSummary> searchProducts(String searchTerm, Pageable pageable) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return getAllProducts(pageable);
         }
-        return productRepository.findBySearchTerm(searchTerm.trim(), pageable);
+        String term = searchTerm.trim();
+        return searchIndexService.searchProducts(term, pageable)
+                .orElseGet(() -> productRepository.findSummariesBySearchTerm(term, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<ProductSummary> scrollProducts(String searchTerm, ScrollPosition position, Sort sort, int limit) {
+        Specification<Product> spec = searchTerm == null || searchTerm.trim().isEmpty()
+                ? Specification.where(null)
+                : searchIndexService.productSpecification(searchTerm.trim())
+                        .orElseGet(() -> SearchSpecifications.productSearch(searchTerm));
+        return productRepository.findBy(spec,
+                query -> query.sortBy(sort).limit(limit).scroll(position)).map(ProductSummary::from);
     }
 
+    @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(String category) {
-        return productRepository.findByCategory(category);
+        return loadCached(productRepository.findIdsByCategory(category));
     }
 
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        dashboardSnapshotService.productCreated(savedProduct.getCategory(), savedProduct.getStock());
+        searchIndexService.productSaved(savedProduct);
+        topSellerService.productSaved(savedProduct.getId(), savedProduct.getSales());
+        stockAlertService.productSaved(savedProduct);
+        return savedProduct;
     }
 
-    public Product updateProduct(Long id, Product productDetails) {
+    /**
+     * Applies an edit made to version {@code expectedVersion} of the product.
+     * If the row has changed since, e.g. a checkout took stock, the edit would
+     * overwrite that change, so it fails with {@link StaleVersionException}.
+     */
+    @RetryOnConflict
+    public Product updateProduct(Long id, Product productDetails, long expectedVersion) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
+        if (product.getVersion() != expectedVersion) {
+            throw new StaleVersionException("Product", id, expectedVersion, product.getVersion());
+        }
+        String oldCategory = product.getCategory();
+        Integer oldStock = product.getStock();
 
         product.setName(productDetails.getName());
         product.setCategory(productDetails.getCategory());
@@ -57,37 +130,168 @@ public class ProductService {
         product.setDescription(productDetails.getDescription());
         product.setImageUrl(productDetails.getImageUrl());
 
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        dashboardSnapshotService.productChanged(oldCategory, oldStock, savedProduct.getCategory(), savedProduct.getStock());
+        searchIndexService.productSaved(savedProduct);
+        stockAlertService.productSaved(savedProduct);
+        return savedProduct;
     }
 
+    @RetryOnConflict
     public void deleteProduct(Long id) {
-        if (!productRepository.existsById(id)) {
-            throw new RuntimeException("Product not found");
-        }
-        productRepository.deleteById(id);
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Product not found"));
+        productRepository.delete(product);
+        dashboardSnapshotService.productDeleted(product.getCategory(), product.getStock());
+        searchIndexService.productDeleted(product.getId());
+        topSellerService.productDeleted(product.getId());
+        stockAlertService.productDeleted(product.getId());
     }
 
+    @Transactional(readOnly = true)
     public List<Product> getLowStockProducts(Integer threshold) {
-        return productRepository.findLowStockProducts(threshold != null ? threshold : 10);
+        int limit = threshold != null ? threshold : 10;
+        return stockAlertService.lowStockIds(limit)
+                .map(this::loadCached)
+                .orElseGet(() -> productRepository.findLowStockProducts(limit));
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getProductCountByCategory() {
         return productRepository.countProductsByCategory();
     }
 
+    @Transactional(readOnly = true)
     public List<Product> getTopSellingProducts(int limit) {
-        return productRepository.findTopSellingProducts(PageRequest.of(0, limit));
+        return loadCached(topSellerService.topProductIds(limit)
+                .orElseGet(() -> productRepository.findTopSellingProductIds(PageRequest.of(0, limit))));
     }
 
+    /**
+     * Best sellers by units ordered within the window, each as the product and
+     * its {@code unitsSold}. Products deleted since are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTopSellingProducts(TopSellerService.Window window, int limit) {
+        List<SlidingWindowCounter.Count> counts = topSellerService.topProducts(window, limit);
+        Map<Long, Product> products = new HashMap<>();
+        loadCached(counts.stream().map(SlidingWindowCounter.Count::id).toList())
+                .forEach(product -> products.put(product.getId(), product));
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (SlidingWindowCounter.Count count : counts) {
+            Product product = products.get(count.id());
+            if (product != null) {
+                Map<String, Object> entry = new HashMap<>();
+                entry.put("product", product);
+                entry.put("unitsSold", count.total());
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Products in id-list order, taken from the second-level cache where
+     * possible; misses are loaded together in one query.
+     */
+    private List<Product> loadCached(List<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Product.class)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(ids).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public long getProductsInStockCount() {
         return productRepository.countProductsInStock();
     }
 
     public Product updateProductSales(Long productId, Integer additionalSales) {
-        Product product = productRepository.findById(productId)
+        incrementSales(Map.of(productId, additionalSales));
+        return productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
+    }
+
+    /**
+     * Adds to the sales of several products in one JDBC batch. The increment is
+     * done by the database, so concurrent checkouts never overwrite each other;
+     * rows are updated in id order to keep lock acquisition consistent.
+     */
+    public void incrementSales(Map<Long, Integer> salesByProductId) {
+        if (salesByProductId.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>();
+        new TreeMap<>(salesByProductId).forEach((id, quantity) -> args.add(new Object[]{quantity, id}));
+
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE products SET sales = COALESCE(sales, 0) + ?, version = version + 1 WHERE id = ?", args);
+        for (int count : counts) {
+            if (count == 0) {
+                throw new RuntimeException("Product not found");
+            }
+        }
+        evictCached(List.copyOf(salesByProductId.keySet()));
+        topSellerService.salesIncremented(salesByProductId);
+    }
+
+    /**
+     * Takes ordered quantities out of stock and adds them to sales, every line
+     * in one JDBC batch. A row is only changed while it still has enough
+     * stock, so concurrent checkouts can't oversell and nothing is read or
+     * locked beforehand; rows are updated in id order like
+     * {@link #incrementSales}. Throws {@link InsufficientStockException} for
+     * the first short line, rolling back the whole order.
+     */
+    public void reserveStock(Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        new TreeMap<>(quantitiesByProductId).forEach((id, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("Quantity must be at least 1");
+            }
+            ids.add(id);
+            args.add(new Object[]{quantity, quantity, id, quantity});
+        });
+
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE products SET stock = stock - ?, sales = COALESCE(sales, 0) + ?, version = version + 1 " +
+                "WHERE id = ? AND stock >= ?", args);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                Long id = ids.get(i);
+                if (!productRepository.existsById(id)) {
+                    throw new RuntimeException("Product not found");
+                }
+                throw new InsufficientStockException(id);
+            }
+        }
+        evictCached(ids);
+        topSellerService.salesIncremented(quantitiesByProductId);
+        stockAlertService.stockReserved(quantitiesByProductId);
+        // Every reserved row had stock left, so any at zero now just sold out
+        Long soldOut = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM products WHERE stock = 0 AND id IN (" +
+                String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", Long.class, ids.toArray());
+        dashboardSnapshotService.productsSoldOut(soldOut != null ? soldOut : 0);
+    }
 
-        product.setSales(product.getSales() + additionalSales);
-        return productRepository.save(product);
+    /**
+     * Drops products changed with plain JDBC from the second-level cache, which
+     * Hibernate can't do itself. Only these entries go: once now, for reads
+     * later in this transaction, and again after commit in case a concurrent
+     * read cached the old row in between.
+     */
+    private void evictCached(List<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(Product.class, id));
+        TransactionHooks.afterCommit(() -> ids.forEach(id -> cache.evict(Product.class, id)));
     }
 }
\ No newline at end of file
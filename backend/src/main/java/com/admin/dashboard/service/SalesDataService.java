@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -17,45 +18,59 @@ public class SalesDataService {
     @Autowired
     private SalesDataRepository salesDataRepository;
 
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Transactional(readOnly = true)
     public List<SalesData> getAllSalesData() {
         return salesDataRepository.findAllOrderByDateDesc();
     }
 
+    @Transactional(readOnly = true)
     public Optional<SalesData> getSalesDataById(Long id) {
         return salesDataRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<SalesData> getSalesDataByDateRange(LocalDate startDate, LocalDate endDate) {
         return salesDataRepository.findSalesDataByDateRange(startDate, endDate);
     }
 
+    @Transactional(readOnly = true)
     public List<SalesData> getSalesDataByCategory(String category) {
         return salesDataRepository.findByCategory(category);
     }
 
     public SalesData createSalesData(SalesData salesData) {
-        return salesDataRepository.save(salesData);
+        SalesData savedSalesData = salesDataRepository.save(salesData);
+        dashboardSnapshotService.salesChanged(null, null, savedSalesData.getCategory(), savedSalesData.getSales());
+        return savedSalesData;
     }
 
     public SalesData updateSalesData(Long id, SalesData salesDataDetails) {
         SalesData salesData = salesDataRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Sales data not found"));
+        String oldCategory = salesData.getCategory();
+        BigDecimal oldSales = salesData.getSales();
 
         salesData.setPeriod(salesDataDetails.getPeriod());
         salesData.setSales(salesDataDetails.getSales());
         salesData.setSaleDate(salesDataDetails.getSaleDate());
         salesData.setCategory(salesDataDetails.getCategory());
 
-        return salesDataRepository.save(salesData);
+        SalesData savedSalesData = salesDataRepository.save(salesData);
+        dashboardSnapshotService.salesChanged(oldCategory, oldSales, savedSalesData.getCategory(), savedSalesData.getSales());
+        return savedSalesData;
     }
 
     public void deleteSalesData(Long id) {
-        if (!salesDataRepository.existsById(id)) {
-            throw new RuntimeException("Sales data not found");
-        }
-        salesDataRepository.deleteById(id);
+        SalesData salesData = salesDataRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Sales data not found"));
+        salesDataRepository.delete(salesData);
+        dashboardSnapshotService.salesChanged(salesData.getCategory(), salesData.getSales(), null, null);
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getSalesByCategory() {
         return salesDataRepository.getSalesByCategory();
     }
@@ -0,0 +1,231 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.dto.OrderSummary;
+import com.admin.dashboard.dto.ProductSummary;
+import com.admin.dashboard.dto.UserSummary;
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.Product;
+import com.admin.dashboard.entity.User;
+import com.admin.dashboard.repository.OrderRepository;
+import com.admin.dashboard.repository.ProductRepository;
+import com.admin.dashboard.repository.SearchSpecifications;
+import com.admin.dashboard.repository.UserRepository;
+import com.admin.dashboard.util.DeltaLog;
+import com.admin.dashboard.util.NgramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Substring search over order id/customer, product name/category and user
+ * name/email, answered from in-memory trigram indexes instead of
+ * {@code LIKE '%term%'} table scans. Matching ids are resolved here and only
+ * those rows are fetched.
+ *
+ * <p>The indexes are built from the database at startup and kept current by
+ * the service save/delete paths after commit. Saves and deletes committed
+ * while the build reads are replayed onto the built indexes before they are
+ * swapped in, so a stale row never resurrects a deleted id or overwrites a
+ * newer edit (see {@link DeltaLog}). Until the build finishes, or
+ * when a term matches too many rows to sort in SQL by id list, callers get an
+ * empty result and fall back to the repository LIKE queries.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.index.max-in-clause:1000}")
+    private int maxInClause;
+
+    // Null until built; the build reads whatever committed before it
+    private volatile Indexes indexes;
+
+    private final DeltaLog<Consumer<Indexes>> deltas = new DeltaLog<>(delta -> {
+        Indexes live = indexes;
+        if (live != null) {
+            delta.accept(live);
+        }
+    });
+
+    private final TransactionTemplate buildTransaction;
+
+    // Not read-only, so the build sees the primary the save/delete hooks describe
+    public SearchIndexService(PlatformTransactionManager transactionManager) {
+        this.buildTransaction = new TransactionTemplate(transactionManager);
+        this.buildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        buildTransaction.executeWithoutResult(status -> deltas.rebuild(
+                orderRepository::streamSearchFields,
+                this::read,
+                (built, replay) -> {
+                    replay.forEach(delta -> delta.accept(built));
+                    indexes = built;
+                }));
+        Indexes built = indexes;
+        log.info("Search indexes built in {} ms ({} orders, {} products, {} users)", System.currentTimeMillis() - started,
+                built.orders().size(), built.products().size(), built.users().size());
+    }
+
+    private Indexes read(Stream<Object[]> orders) {
+        Indexes built = new Indexes();
+        try (Stream<Object[]> rows = orders) {
+            rows.forEach(row -> built.orders().put((Long) row[0], (String) row[1], (String) row[2]));
+        }
+        try (Stream<Object[]> rows = productRepository.streamSearchFields()) {
+            rows.forEach(row -> built.products().put((Long) row[0], (String) row[1], (String) row[2]));
+        }
+        try (Stream<Object[]> rows = userRepository.streamSearchFields()) {
+            rows.forEach(row -> built.users().put((Long) row[0], (String) row[1], (String) row[2]));
+        }
+        return built;
+    }
+
+    public void orderSaved(Order order) {
+        Long id = order.getId();
+        String orderId = order.getOrderId();
+        String customer = order.getCustomer();
+        deltas.afterCommit(built -> built.orders().put(id, orderId, customer));
+    }
+
+    public void orderDeleted(Long id) {
+        deltas.afterCommit(built -> built.orders().remove(id));
+    }
+
+    public void productSaved(Product product) {
+        Long id = product.getId();
+        String name = product.getName();
+        String category = product.getCategory();
+        deltas.afterCommit(built -> built.products().put(id, name, category));
+    }
+
+    public void productDeleted(Long id) {
+        deltas.afterCommit(built -> built.products().remove(id));
+    }
+
+    public void userSaved(User user) {
+        Long id = user.getId();
+        String name = user.getName();
+        String email = user.getEmail();
+        deltas.afterCommit(built -> built.users().put(id, name, email));
+    }
+
+    public void userDeleted(Long id) {
+        deltas.afterCommit(built -> built.users().remove(id));
+    }
+
+    public Optional<Page<OrderSummary>> searchOrders(String searchTerm, Pageable pageable) {
+        return page(Indexes::orders, searchTerm, pageable, orderRepository::findSummariesByIdIn);
+    }
+
+    public Optional<Page<ProductSummary>> searchProducts(String searchTerm, Pageable pageable) {
+        return page(Indexes::products, searchTerm, pageable, productRepository::findSummariesByIdIn);
+    }
+
+    public Optional<Page<UserSummary>> searchUsers(String searchTerm, Pageable pageable) {
+        return page(Indexes::users, searchTerm, pageable, userRepository::findSummariesByIdIn);
+    }
+
+    public Optional<Specification<Order>> orderSpecification(String searchTerm) {
+        return boundedIds(Indexes::orders, searchTerm).map(SearchSpecifications::idIn);
+    }
+
+    public Optional<Specification<Product>> productSpecification(String searchTerm) {
+        return boundedIds(Indexes::products, searchTerm).map(SearchSpecifications::idIn);
+    }
+
+    public Optional<Specification<User>> userSpecification(String searchTerm) {
+        return boundedIds(Indexes::users, searchTerm).map(SearchSpecifications::idIn);
+    }
+
+    private <T> Optional<Page<T>> page(Function<Indexes, NgramIndex> index, String searchTerm, Pageable pageable,
+                                       BiFunction<Collection<Long>, Pageable, List<T>> fetch) {
+        Indexes current = indexes;
+        if (!enabled || current == null) {
+            return Optional.empty();
+        }
+        List<Long> ids = index.apply(current).search(searchTerm);
+        if (ids.isEmpty()) {
+            return Optional.of(new PageImpl<>(List.of(), pageable, 0));
+        }
+
+        Sort.Order idOrder = pageable.getSort().getOrderFor("id");
+        boolean sortedByIdOnly = pageable.getSort().isUnsorted()
+                || (idOrder != null && pageable.getSort().stream().count() == 1);
+        if (sortedByIdOnly) {
+            // Ids come back ascending, so the requested page can be cut before touching the database
+            List<Long> ordered = ids;
+            if (idOrder != null && idOrder.isDescending()) {
+                ordered = new ArrayList<>(ids);
+                Collections.reverse(ordered);
+            }
+            int from = (int) Math.min(pageable.getOffset(), ordered.size());
+            int to = Math.min(from + pageable.getPageSize(), ordered.size());
+            List<T> content = from < to
+                    ? fetch.apply(ordered.subList(from, to), Pageable.unpaged(pageable.getSort()))
+                    : List.of();
+            return Optional.of(new PageImpl<>(content, pageable, ids.size()));
+        }
+
+        if (ids.size() > maxInClause) {
+            return Optional.empty();
+        }
+        return Optional.of(new PageImpl<>(fetch.apply(ids, pageable), pageable, ids.size()));
+    }
+
+    private Optional<List<Long>> boundedIds(Function<Indexes, NgramIndex> index, String searchTerm) {
+        Indexes current = indexes;
+        if (!enabled || current == null) {
+            return Optional.empty();
+        }
+        List<Long> ids = index.apply(current).search(searchTerm);
+        return ids.size() > maxInClause ? Optional.empty() : Optional.of(ids);
+    }
+
+    private record Indexes(NgramIndex orders, NgramIndex products, NgramIndex users) {
+        Indexes() {
+            this(new NgramIndex(), new NgramIndex(), new NgramIndex());
+        }
+    }
+}
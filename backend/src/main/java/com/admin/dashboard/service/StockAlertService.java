@@ -0,0 +1,275 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.config.SchedulingConfig;
+import com.admin.dashboard.entity.Product;
+import com.admin.dashboard.repository.ProductRepository;
+import com.admin.dashboard.util.DeltaLog;
+import com.admin.dashboard.util.RankedIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Stock levels indexed in memory, answering low-stock lists without a table
+ * scan and pushing threshold crossings to Server-Sent Events subscribers.
+ *
+ * <p>The index is loaded at startup, updated after commit by product create,
+ * update and delete and by order stock reservations, and reloaded periodically to pick up writes that bypass
+ * the services. A reload reads the primary and replays the changes committed
+ * while it read (see {@link DeltaLog}), so only levels that still differ
+ * afterwards are applied and announced; a stale read never raises an alert.
+ * Each subscriber names its own threshold and receives the products below it
+ * once on connect, then a {@code low-stock} event when a product drops below
+ * the threshold and a {@code restocked} event when it climbs back. Events are
+ * written by a single dispatcher thread, so they reach each client in the
+ * order the changes were applied and never hold up the committing request.
+ */
+@Service
+public class StockAlertService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockAlertService.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Value("${stock.alerts.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private record Level(String name, long stock) {}
+
+    // The stock changes a service commit makes, applied to the live index or replayed onto a reload
+    private interface StockLevels {
+        void set(Long id, String name, long stock);
+
+        void adjust(Long id, long delta);
+
+        void remove(Long id);
+    }
+
+    private final RankedIndex stockIndex = new RankedIndex();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+    private final DeltaLog<Consumer<StockLevels>> deltas = new DeltaLog<>(delta -> delta.accept(new StockLevels() {
+        @Override
+        public void set(Long id, String name, long stock) {
+            apply(id, name, stock);
+        }
+
+        @Override
+        public void adjust(Long id, long delta) {
+            StockAlertService.this.adjust(id, delta);
+        }
+
+        @Override
+        public void remove(Long id) {
+            StockAlertService.this.remove(id);
+        }
+    }));
+    private final Map<SseEmitter, Integer> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-alerts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TransactionTemplate reloadTransaction;
+
+    private volatile boolean ready;
+
+    // Not read-only, so the read sees the primary the change hooks describe
+    public StockAlertService(PlatformTransactionManager transactionManager) {
+        this.reloadTransaction = new TransactionTemplate(transactionManager);
+        this.reloadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stock.alerts.reconcile-interval-ms:60000}",
+               initialDelayString = "${stock.alerts.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        reloadTransaction.executeWithoutResult(status -> deltas.rebuild(
+                productRepository::streamStockLevels,
+                StockAlertService::readLevels,
+                (levels, replay) -> {
+                    replay.forEach(delta -> delta.accept(view(levels)));
+                    levels.forEach((id, level) -> apply(id, level.name(), level.stock()));
+                    for (Long id : List.copyOf(names.keySet())) {
+                        if (!levels.containsKey(id)) {
+                            remove(id);
+                        }
+                    }
+                }));
+        if (!ready) {
+            ready = true;
+            log.info("Stock index loaded in {} ms ({} products)", System.currentTimeMillis() - started, names.size());
+        }
+    }
+
+    private static Map<Long, Level> readLevels(Stream<Object[]> stream) {
+        Map<Long, Level> levels = new HashMap<>();
+        try (Stream<Object[]> rows = stream) {
+            rows.forEach(row -> {
+                Integer stock = (Integer) row[2];
+                levels.put((Long) row[0], new Level((String) row[1], stock != null ? stock : 0));
+            });
+        }
+        return levels;
+    }
+
+    private static StockLevels view(Map<Long, Level> levels) {
+        return new StockLevels() {
+            @Override
+            public void set(Long id, String name, long stock) {
+                levels.put(id, new Level(name, stock));
+            }
+
+            @Override
+            public void adjust(Long id, long delta) {
+                levels.computeIfPresent(id, (key, level) -> new Level(level.name(), level.stock() + delta));
+            }
+
+            @Override
+            public void remove(Long id) {
+                levels.remove(id);
+            }
+        };
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        subscribers.keySet().forEach(SseEmitter::complete);
+    }
+
+    /**
+     * Ids of products with stock below the threshold, lowest first, or empty
+     * until the index is loaded.
+     */
+    public Optional<List<Long>> lowStockIds(int threshold) {
+        return ready ? Optional.of(stockIndex.below(threshold)) : Optional.empty();
+    }
+
+    public void productSaved(Product product) {
+        Long id = product.getId();
+        String name = product.getName();
+        long stock = product.getStock() != null ? product.getStock() : 0;
+        deltas.afterCommit(levels -> levels.set(id, name, stock));
+    }
+
+    public void productDeleted(Long id) {
+        deltas.afterCommit(levels -> levels.remove(id));
+    }
+
+    public void stockReserved(Map<Long, Integer> quantitiesByProductId) {
+        Map<Long, Integer> quantities = Map.copyOf(quantitiesByProductId);
+        deltas.afterCommit(levels -> quantities.forEach((id, quantity) -> levels.adjust(id, -quantity)));
+    }
+
+    public SseEmitter subscribe(int threshold) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(emitter));
+        // Queued behind earlier crossings, so the snapshot already reflects them
+        dispatcher.execute(() -> {
+            List<Map<String, Object>> lowStock = new ArrayList<>();
+            for (Long id : stockIndex.below(threshold)) {
+                stockIndex.score(id).ifPresent(stock -> lowStock.add(alert(id, names.get(id), stock, null, threshold)));
+            }
+            if (send(emitter, "snapshot", lowStock)) {
+                subscribers.put(emitter, threshold);
+            }
+        });
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.alerts.heartbeat-interval-ms:15000}", scheduler = SchedulingConfig.REALTIME)
+    public void heartbeat() {
+        dispatcher.execute(() -> subscribers.keySet().forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(emitter);
+            }
+        }));
+    }
+
+    private synchronized void apply(Long id, String name, long stock) {
+        names.put(id, name);
+        update(id, stock);
+    }
+
+    // Synchronized so crossings are queued in the order their levels were set
+    private synchronized void update(Long id, long level) {
+        OptionalLong previous = stockIndex.set(id, level);
+        if (previous.isPresent() && previous.getAsLong() == level) {
+            return;
+        }
+        String productName = names.get(id);
+        dispatcher.execute(() -> subscribers.forEach((emitter, threshold) -> {
+            boolean wasLow = previous.isPresent() && previous.getAsLong() < threshold;
+            boolean isLow = level < threshold;
+            if (wasLow != isLow) {
+                send(emitter, isLow ? "low-stock" : "restocked",
+                        alert(id, productName, level, previous.isPresent() ? previous.getAsLong() : null, threshold));
+            }
+        }));
+    }
+
+    // Products not indexed yet are left to the next reload
+    private synchronized void adjust(Long id, long delta) {
+        OptionalLong current = stockIndex.score(id);
+        if (current.isPresent()) {
+            update(id, current.getAsLong() + delta);
+        }
+    }
+
+    private synchronized void remove(Long id) {
+        stockIndex.remove(id);
+        names.remove(id);
+    }
+
+    private static Map<String, Object> alert(Long id, String name, long stock, Long previousStock, int threshold) {
+        Map<String, Object> alert = new HashMap<>();
+        alert.put("productId", id);
+        alert.put("name", name);
+        alert.put("stock", stock);
+        alert.put("previousStock", previousStock);
+        alert.put("threshold", threshold);
+        return alert;
+    }
+
+    private boolean send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The container reports the broken connection through onError
+            subscribers.remove(emitter);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.OrderItem;
+import com.admin.dashboard.repository.OrderRepository;
+import com.admin.dashboard.repository.ProductRepository;
+import com.admin.dashboard.util.DeltaLog;
+import com.admin.dashboard.util.RankedIndex;
+import com.admin.dashboard.util.SlidingWindowCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Best-selling products ranked in memory, so top-seller reads need no
+ * {@code ORDER BY sales} scan.
+ *
+ * <p>The all-time ranking mirrors {@code products.sales}: loaded at startup,
+ * moved after commit by every sales increment, and reloaded periodically to
+ * correct drift from writes that bypass the services. The 24h and 7d rankings
+ * count units per order item in hourly buckets, backfilled from the last week
+ * of orders at startup and fed by order creation and import after commit.
+ *
+ * <p>Loads read the primary, build a new ranking and replay the changes
+ * committed while they read (see {@link DeltaLog}) before swapping it in, so
+ * an increment is never dropped by a stale read or counted twice.
+ */
+@Service
+public class TopSellerService {
+
+    private static final Logger log = LoggerFactory.getLogger(TopSellerService.class);
+
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+
+    public enum Window {
+        DAY("24h", 24),
+        WEEK("7d", 24 * 7);
+
+        private final String label;
+        private final int hours;
+
+        Window(String label, int hours) {
+            this.label = label;
+            this.hours = hours;
+        }
+
+        public static Window from(String label) {
+            for (Window window : values()) {
+                if (window.label.equalsIgnoreCase(label)) {
+                    return window;
+                }
+            }
+            throw new IllegalArgumentException("Unknown window '" + label + "', expected 24h or 7d");
+        }
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private volatile RankedIndex allTime = new RankedIndex();
+    private volatile Map<Window, SlidingWindowCounter> windows = emptyWindows();
+
+    private final DeltaLog<Consumer<RankedIndex>> allTimeDeltas = new DeltaLog<>(delta -> delta.accept(allTime));
+    private final DeltaLog<Consumer<Map<Window, SlidingWindowCounter>>> windowDeltas =
+            new DeltaLog<>(delta -> delta.accept(windows));
+
+    private final TransactionTemplate loadTransaction;
+
+    private volatile boolean ready;
+
+    // Not read-only, so loads see the primary the change hooks describe
+    public TopSellerService(PlatformTransactionManager transactionManager) {
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.currentTimeMillis();
+        reconcile();
+        LocalDateTime from = LocalDateTime.now().minusHours(Window.WEEK.hours);
+        long[] items = {0};
+        loadTransaction.executeWithoutResult(status -> windowDeltas.rebuild(
+                () -> orderRepository.streamItemsSince(from),
+                stream -> {
+                    Map<Window, SlidingWindowCounter> loaded = emptyWindows();
+                    try (Stream<Object[]> rows = stream) {
+                        rows.forEach(row -> {
+                            count(loaded, (Long) row[0], ((Number) row[2]).longValue(), (LocalDateTime) row[1]);
+                            items[0]++;
+                        });
+                    }
+                    return loaded;
+                },
+                (loaded, replay) -> {
+                    replay.forEach(delta -> delta.accept(loaded));
+                    windows = loaded;
+                }));
+        ready = true;
+        log.info("Top sellers loaded in {} ms ({} products, {} order items from the last 7 days)",
+                System.currentTimeMillis() - started, allTime.size(), items[0]);
+    }
+
+    @Scheduled(fixedDelayString = "${top-sellers.reconcile-interval-ms:60000}",
+               initialDelayString = "${top-sellers.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        loadTransaction.executeWithoutResult(status -> allTimeDeltas.rebuild(
+                productRepository::streamSales,
+                stream -> {
+                    Map<Long, Long> sales = new HashMap<>();
+                    try (Stream<Object[]> rows = stream) {
+                        rows.forEach(row -> sales.put((Long) row[0], row[1] != null ? ((Number) row[1]).longValue() : 0));
+                    }
+                    RankedIndex loaded = new RankedIndex();
+                    loaded.reset(sales);
+                    return loaded;
+                },
+                (loaded, replay) -> {
+                    replay.forEach(delta -> delta.accept(loaded));
+                    allTime = loaded;
+                }));
+    }
+
+    /**
+     * Top product ids by all-time sales, or empty until the ranking is loaded.
+     */
+    public Optional<List<Long>> topProductIds(int limit) {
+        return ready ? Optional.of(allTime.top(limit)) : Optional.empty();
+    }
+
+    /**
+     * Top products by units ordered within the window. Counts are partial until
+     * the startup backfill has finished.
+     */
+    public List<SlidingWindowCounter.Count> topProducts(Window window, int limit) {
+        return windows.get(window).top(limit, bucket(System.currentTimeMillis()));
+    }
+
+    public void salesIncremented(Map<Long, Integer> salesByProductId) {
+        Map<Long, Integer> increments = Map.copyOf(salesByProductId);
+        allTimeDeltas.afterCommit(ranking -> increments.forEach(ranking::add));
+    }
+
+    public void productSaved(Long id, Integer sales) {
+        long score = sales != null ? sales : 0;
+        allTimeDeltas.afterCommit(ranking -> ranking.set(id, score));
+    }
+
+    public void productDeleted(Long id) {
+        allTimeDeltas.afterCommit(ranking -> ranking.remove(id));
+        windowDeltas.afterCommit(counters -> counters.values().forEach(counter -> counter.remove(id)));
+    }
+
+    public void orderCreated(Order order) {
+        LocalDateTime orderDate = order.getOrderDate();
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderItem item : order.getOrderItems()) {
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+        }
+        windowDeltas.afterCommit(counters ->
+                quantities.forEach((id, quantity) -> count(counters, id, quantity, orderDate)));
+    }
+
+    private static void count(Map<Window, SlidingWindowCounter> counters, Long productId, long quantity,
+                              LocalDateTime orderDate) {
+        // Future-dated orders count as sold now rather than moving the window ahead
+        long bucket = Math.min(bucket(orderDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()),
+                bucket(System.currentTimeMillis()));
+        counters.values().forEach(counter -> counter.add(productId, quantity, bucket));
+    }
+
+    private static Map<Window, SlidingWindowCounter> emptyWindows() {
+        Map<Window, SlidingWindowCounter> counters = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            counters.put(window, new SlidingWindowCounter(window.hours));
+        }
+        return counters;
+    }
+
+    private static long bucket(long epochMillis) {
+        return Math.floorDiv(epochMillis, BUCKET_MILLIS);
+    }
+}
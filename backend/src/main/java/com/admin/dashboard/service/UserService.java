@@ -1,11 +1,18 @@
 package com.admin.dashboard.service;
 
+import com.admin.dashboard.dto.UserSummary;
 import com.admin.dashboard.entity.User;
+import com.admin.dashboard.repository.SearchSpecifications;
 import com.admin.dashboard.repository.UserRepository;
+import com.admin.dashboard.security.PrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,42 +27,90 @@ public class UserService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private DashboardSnapshotService dashboardSnapshotService;
 
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
-    public Page<User> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Page<UserSummary> getAllUsers(Pageable pageable) {
+        return userRepository.findSummaries(pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
 
+    // Not read-only: logins must see a user registered a moment ago, so this
+    // stays on the primary instead of a possibly lagging replica
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
 
-    public Page<User> searchUsers(String searchTerm, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<UserSummary> searchUsers(String searchTerm, Pageable pageable) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return getAllUsers(pageable);
         }
-        return userRepository.findBySearchTerm(searchTerm.trim(), pageable);
+        String term = searchTerm.trim();
+        return searchIndexService.searchUsers(term, pageable)
+                .orElseGet(() -> userRepository.findSummariesBySearchTerm(term, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<UserSummary> scrollUsers(String searchTerm, ScrollPosition position, Sort sort, int limit) {
+        Specification<User> spec = searchTerm == null || searchTerm.trim().isEmpty()
+                ? Specification.where(null)
+                : searchIndexService.userSpecification(searchTerm.trim())
+                        .orElseGet(() -> SearchSpecifications.userSearch(searchTerm));
+        return userRepository.findBy(spec,
+                query -> query.sortBy(sort).limit(limit).scroll(position)).map(UserSummary::from);
+    }
+
+    // Checked right before an insert, so it stays on the primary too
+    public boolean existsByEmail(String email) {
+        return userRepository.existsByEmail(email);
     }
 
-    public User createUser(User user) {
+    /**
+     * Takes an already hashed password. Hashing happens before this call so a
+     * caller waiting on the hashing pool doesn't hold a transaction and its
+     * connection meanwhile.
+     */
+    public User createUserWithEncodedPassword(User user) {
         if (userRepository.existsByEmail(user.getEmail())) {
-            throw new RuntimeException("Email already exists");
+            throw new DataIntegrityViolationException("Email already exists");
         }
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        return saveNewUser(user);
     }
 
-    public User updateUser(Long id, User userDetails) {
+    private User saveNewUser(User user) {
+        User savedUser = userRepository.save(user);
+        dashboardSnapshotService.userCreated(savedUser);
+        searchIndexService.userSaved(savedUser);
+        principalCache.invalidate(savedUser.getEmail());
+        return savedUser;
+    }
+
+    /**
+     * A non-empty password in {@code userDetails} must already be hashed, as
+     * for {@link #createUserWithEncodedPassword}.
+     */
+    public User updateUserWithEncodedPassword(Long id, User userDetails) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        User.Role oldRole = user.getRole();
+        User.Status oldStatus = user.getStatus();
+        String oldEmail = user.getEmail();
 
         user.setName(userDetails.getName());
         user.setEmail(userDetails.getEmail());
@@ -63,23 +118,39 @@ public class UserService {
         user.setStatus(userDetails.getStatus());
 
         if (userDetails.getPassword() != null && !userDetails.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
+            user.setPassword(userDetails.getPassword());
         }
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        dashboardSnapshotService.userChanged(oldRole, oldStatus, savedUser);
+        searchIndexService.userSaved(savedUser);
+        principalCache.invalidate(oldEmail);
+        principalCache.invalidate(savedUser.getEmail());
+        return savedUser;
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found");
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        userRepository.delete(user);
+        dashboardSnapshotService.userDeleted(user);
+        searchIndexService.userDeleted(user.getId());
+        principalCache.invalidate(user.getEmail());
+    }
+
+    /**
+     * Replaces a password hash unless the password was changed in the meantime.
+     */
+    public boolean rehashPassword(Long id, String oldHash, String newHash) {
+        return userRepository.replacePasswordHash(id, oldHash, newHash) > 0;
     }
 
+    @Transactional(readOnly = true)
     public long getActiveUsersCount() {
         return userRepository.countActiveUsers();
     }
 
+    @Transactional(readOnly = true)
     public long getUserCountByRole(User.Role role) {
         return userRepository.countByRole(role);
     }
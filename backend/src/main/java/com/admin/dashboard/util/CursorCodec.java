@@ -0,0 +1,109 @@
+package com.admin.dashboard.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes keyset scroll positions (last sort key plus id) as opaque,
+ * URL-safe cursors and decodes them back into typed positions. A cursor
+ * records the sort it was issued for, directions included, so it cannot be
+ * replayed against a different ordering.
+ */
+@Component
+public class CursorCodec {
+
+    private static final TypeReference<Map<String, Object>> KEYS_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public String encode(ScrollPosition position, Sort sort) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+        Map<String, Object> cursor = new LinkedHashMap<>();
+        cursor.put("sort", describe(sort));
+        cursor.put("keys", keyset.getKeys());
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(cursor));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    /**
+     * Also validates the sort itself, so call it for the first page too: keyset
+     * paging only works on non-null columns, since a null key drops out of the
+     * {@code >} / {@code <} comparisons that select the next page.
+     *
+     * @throws IllegalArgumentException if the sort can't be used for keyset paging,
+     *         or the cursor is malformed or was issued for a different sort
+     */
+    public KeysetScrollPosition decode(String cursor, Class<?> entityType, Sort sort) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        sort.forEach(order -> fields.put(order.getProperty(), sortField(entityType, order.getProperty())));
+        fields.put("id", sortField(entityType, "id"));
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> decoded;
+        try {
+            decoded = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        if (!(decoded.get("keys") instanceof Map<?, ?> rawKeys)) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        if (!describe(sort).equals(decoded.get("sort")) || !rawKeys.keySet().equals(fields.keySet())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Map.Entry<String, Field> entry : fields.entrySet()) {
+            Object value = rawKeys.get(entry.getKey());
+            if (value == null) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            keys.put(entry.getKey(), objectMapper.convertValue(value, entry.getValue().getType()));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static List<String> describe(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        sort.forEach(order -> orders.add(order.getProperty() + "," + order.getDirection().name().toLowerCase()));
+        return orders;
+    }
+
+    private static Field sortField(Class<?> entityType, String property) {
+        Field field = ReflectionUtils.findField(entityType, property);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown sort property: " + property);
+        }
+        Column column = field.getAnnotation(Column.class);
+        boolean nonNull = field.isAnnotationPresent(Id.class) || field.getType().isPrimitive()
+                || (column != null && !column.nullable());
+        if (!nonNull) {
+            throw new IllegalArgumentException("Keyset paging can't sort by nullable property: " + property);
+        }
+        return field;
+    }
+}
@@ -0,0 +1,113 @@
+package com.admin.dashboard.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * After-commit deltas to an in-memory view of the database, for views that
+ * are also rebuilt from a fresh read while writes keep committing.
+ *
+ * <p>A rebuild opens its read with commits held back, so every delta belongs
+ * either to a commit the read sees or to one it doesn't. The latter are
+ * recorded and replayed onto the rebuilt view before it is installed, so a
+ * write is neither lost nor applied twice. The first query of the read must
+ * fix its snapshot, i.e. run in a repeatable read transaction on the primary.
+ *
+ * @param <D> the delta type, applied to the live view by the consumer given
+ *            to the constructor
+ */
+public class DeltaLog<D> {
+
+    // Shared from before commit until the delta has run; exclusive while a read opens
+    private final ReadWriteLock commits = new ReentrantReadWriteLock();
+    private final Consumer<D> live;
+    private final Object rebuilding = new Object();
+
+    // Deltas applied since the running rebuild opened its read; null when idle
+    private List<D> recorded;
+
+    public DeltaLog(Consumer<D> live) {
+        this.live = live;
+    }
+
+    /**
+     * Applies the delta to the live view once the surrounding transaction
+     * commits, or immediately when called outside a transaction.
+     */
+    public void afterCommit(D delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean holding;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commits.readLock().lock();
+                holding = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                apply(delta);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (holding) {
+                    holding = false;
+                    commits.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the view: {@code open} runs the first query with commits held
+     * back, {@code read} finishes reading, and {@code install} receives the
+     * result and the deltas committed after the read opened, in order, to
+     * replay and swap in. No delta is applied to the live view during install.
+     * Rebuilds of the same view run one at a time.
+     */
+    public <S, R> void rebuild(Supplier<S> open, Function<S, R> read, BiConsumer<R, List<D>> install) {
+        synchronized (rebuilding) {
+            S opened;
+            commits.writeLock().lock();
+            try {
+                opened = open.get();
+                synchronized (this) {
+                    recorded = new ArrayList<>();
+                }
+            } finally {
+                commits.writeLock().unlock();
+            }
+            try {
+                R result = read.apply(opened);
+                synchronized (this) {
+                    install.accept(result, recorded);
+                }
+            } finally {
+                synchronized (this) {
+                    recorded = null;
+                }
+            }
+        }
+    }
+
+    private synchronized void apply(D delta) {
+        live.accept(delta);
+        if (recorded != null) {
+            recorded.add(delta);
+        }
+    }
+}
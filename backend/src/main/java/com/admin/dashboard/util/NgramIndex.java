@@ -0,0 +1,202 @@
+package com.admin.dashboard.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory trigram index answering case-insensitive substring queries, i.e.
+ * the same matches as {@code LOWER(field) LIKE '%term%'} over the indexed
+ * fields, without scanning every row.
+ *
+ * <p>Each trigram maps to a sorted array of document ids. Lookups intersect
+ * the posting lists of the term's trigrams (smallest first) and then confirm
+ * candidates against the stored text. Reads are lock-free; writes are
+ * serialised per index and publish new posting snapshots, so readers never
+ * see a half-updated list.
+ */
+public class NgramIndex {
+
+    private static final int GRAM = 3;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final Map<String, PostingList> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String> documents = new ConcurrentHashMap<>();
+
+    public synchronized void put(Long id, String... fields) {
+        String text = normalize(fields);
+        String previous = documents.put(id, text);
+        if (text.equals(previous)) {
+            return;
+        }
+        Set<String> oldGrams = previous != null ? grams(previous) : Set.of();
+        Set<String> newGrams = grams(text);
+        for (String gram : oldGrams) {
+            if (!newGrams.contains(gram)) {
+                removePosting(gram, id);
+            }
+        }
+        for (String gram : newGrams) {
+            if (!oldGrams.contains(gram)) {
+                postings.computeIfAbsent(gram, g -> new PostingList()).add(id);
+            }
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        String previous = documents.remove(id);
+        if (previous != null) {
+            for (String gram : grams(previous)) {
+                removePosting(gram, id);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Ids of all documents containing the term, in ascending order.
+     */
+    public List<Long> search(String term) {
+        String needle = term.toLowerCase(Locale.ROOT);
+        if (needle.length() < GRAM) {
+            // Too short for trigrams; the stored text is still far cheaper to scan than the table
+            List<Long> ids = new ArrayList<>();
+            documents.forEach((id, text) -> {
+                if (text.contains(needle)) {
+                    ids.add(id);
+                }
+            });
+            ids.sort(null);
+            return ids;
+        }
+
+        List<Snapshot> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            PostingList posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting.snapshot());
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        Snapshot smallest = lists.get(0);
+        List<Long> ids = new ArrayList<>();
+        candidates:
+        for (int c = 0; c < smallest.size(); c++) {
+            long id = smallest.ids()[c];
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    continue candidates;
+                }
+            }
+            String text = documents.get(id);
+            if (text != null && text.contains(needle)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void removePosting(String gram, Long id) {
+        PostingList posting = postings.get(gram);
+        if (posting != null && posting.remove(id)) {
+            postings.remove(gram);
+        }
+    }
+
+    private static String normalize(String... fields) {
+        StringBuilder text = new StringBuilder();
+        for (String field : fields) {
+            if (text.length() > 0) {
+                text.append(FIELD_SEPARATOR);
+            }
+            if (field != null) {
+                text.append(field.toLowerCase(Locale.ROOT));
+            }
+        }
+        return text.toString();
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            String gram = text.substring(i, i + GRAM);
+            if (gram.indexOf(FIELD_SEPARATOR) < 0) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Sorted id array. Appends of increasing ids (the common case for new rows)
+     * write past the published size in place; anything else copies. Readers work
+     * on an immutable {@link Snapshot} of (array, size) and never lock.
+     */
+    private static final class PostingList {
+        private volatile Snapshot current = new Snapshot(new long[4], 0);
+
+        synchronized void add(long id) {
+            long[] ids = current.ids;
+            int size = current.size;
+            if (size == 0 || ids[size - 1] < id) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size] = id;
+                current = new Snapshot(ids, size + 1);
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            long[] copy = new long[Math.max(ids.length, size + 1)];
+            System.arraycopy(ids, 0, copy, 0, insertAt);
+            copy[insertAt] = id;
+            System.arraycopy(ids, insertAt, copy, insertAt + 1, size - insertAt);
+            current = new Snapshot(copy, size + 1);
+        }
+
+        /**
+         * @return true when the list is now empty
+         */
+        synchronized boolean remove(long id) {
+            long[] ids = current.ids;
+            int size = current.size;
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                long[] copy = new long[ids.length];
+                System.arraycopy(ids, 0, copy, 0, index);
+                System.arraycopy(ids, index + 1, copy, index, size - index - 1);
+                current = new Snapshot(copy, size - 1);
+            }
+            return current.size == 0;
+        }
+
+        Snapshot snapshot() {
+            return current;
+        }
+    }
+
+    private record Snapshot(long[] ids, int size) {
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.admin.dashboard.util;
+
+/**
+ * Source of the public {@code orderId} assigned to new orders that don't bring
+ * their own. Implementations must be thread-safe and must not repeat ids,
+ * including across backend instances sharing a database.
+ *
+ * <p>The default is {@link SnowflakeOrderIdGenerator}. To replace it, declare
+ * another bean of this type marked {@code @Primary}.
+ */
+public interface OrderIdGenerator {
+
+    String nextOrderId();
+}
@@ -0,0 +1,146 @@
+package com.admin.dashboard.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ids ranked by a score, highest first and ties by ascending id. Score changes
+ * are O(log n); reading the top k walks the front of the ranking, O(k), with
+ * no sort. Readers share a lock and only block while a write is applied.
+ */
+public class RankedIndex {
+
+    private record Entry(long id, long score) {}
+
+    private static final Comparator<Entry> RANKING =
+            Comparator.comparingLong(Entry::score).reversed().thenComparingLong(Entry::id);
+
+    private final TreeSet<Entry> ranking = new TreeSet<>(RANKING);
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Sets an id's score and returns the one it replaces, if any.
+     */
+    public OptionalLong set(long id, long score) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = put(id, score);
+            return previous != null ? OptionalLong.of(previous.score()) : OptionalLong.empty();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds to an id's score, starting from zero for ids not yet ranked.
+     */
+    public void add(long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.get(id);
+            put(id, (current != null ? current.score() : 0) + delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Entry removed = entries.remove(id);
+            if (removed != null) {
+                ranking.remove(removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every score at once, dropping ids missing from {@code scores}.
+     */
+    public void reset(Map<Long, Long> scores) {
+        lock.writeLock().lock();
+        try {
+            ranking.clear();
+            entries.clear();
+            scores.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> top(int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(Math.min(k, entries.size()));
+            Iterator<Entry> it = ranking.iterator();
+            while (ids.size() < k && it.hasNext()) {
+                ids.add(it.next().id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids scoring below {@code score}, lowest first; O(log n + matches).
+     */
+    public List<Long> below(long score) {
+        if (score == Long.MIN_VALUE) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (Entry entry : ranking.tailSet(new Entry(Long.MIN_VALUE, score - 1), true).descendingSet()) {
+                ids.add(entry.id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public OptionalLong score(long id) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            return entry != null ? OptionalLong.of(entry.score()) : OptionalLong.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Entry put(long id, long score) {
+        Entry entry = new Entry(id, score);
+        Entry previous = entries.put(id, entry);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        ranking.add(entry);
+        return previous;
+    }
+}
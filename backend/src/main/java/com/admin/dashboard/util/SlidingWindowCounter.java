@@ -0,0 +1,97 @@
+package com.admin.dashboard.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Per-id totals over a sliding window of fixed-width time buckets, e.g. units
+ * sold per product over the last 24 one-hour buckets. Each bucket keeps its
+ * own counts and the window keeps their running sum, so expiring a bucket
+ * subtracts it once instead of re-adding the rest. Times are bucket numbers
+ * (epoch time divided by the bucket width), supplied by the caller.
+ */
+public class SlidingWindowCounter {
+
+    public record Count(long id, long total) {}
+
+    private static final Comparator<Count> RANKING =
+            Comparator.comparingLong(Count::total).reversed().thenComparingLong(Count::id);
+
+    private final int bucketCount;
+    private final List<Map<Long, Long>> buckets;
+    private final Map<Long, Long> totals = new HashMap<>();
+    private long newestBucket = Long.MIN_VALUE;
+
+    public SlidingWindowCounter(int bucketCount) {
+        this.bucketCount = bucketCount;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Counts {@code amount} for {@code id} in the given bucket. Counts older
+     * than the window are ignored; newer ones move the window forward.
+     */
+    public synchronized void add(long id, long amount, long bucket) {
+        advance(bucket);
+        if (bucket <= newestBucket - bucketCount) {
+            return;
+        }
+        buckets.get(slot(bucket)).merge(id, amount, Long::sum);
+        totals.merge(id, amount, Long::sum);
+    }
+
+    /**
+     * The {@code k} ids with the highest totals in the window ending at
+     * {@code bucket}, highest first, using a k-sized heap rather than a full sort.
+     */
+    public synchronized List<Count> top(int k, long bucket) {
+        advance(bucket);
+        if (k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Count> heap = new PriorityQueue<>(k + 1, RANKING.reversed());
+        totals.forEach((id, total) -> {
+            heap.add(new Count(id, total));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        });
+        List<Count> result = new ArrayList<>(heap);
+        result.sort(RANKING);
+        return result;
+    }
+
+    public synchronized void remove(long id) {
+        buckets.forEach(counts -> counts.remove(id));
+        totals.remove(id);
+    }
+
+    private void advance(long bucket) {
+        if (newestBucket == Long.MIN_VALUE) {
+            newestBucket = bucket;
+            return;
+        }
+        if (bucket <= newestBucket) {
+            return;
+        }
+        long expire = Math.min(bucket - newestBucket, bucketCount);
+        for (long b = bucket - expire + 1; b <= bucket; b++) {
+            Map<Long, Long> counts = buckets.get(slot(b));
+            counts.forEach((id, amount) -> totals.computeIfPresent(id,
+                    (key, total) -> total.longValue() == amount.longValue() ? null : total - amount));
+            counts.clear();
+        }
+        newestBucket = bucket;
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) bucketCount);
+    }
+}
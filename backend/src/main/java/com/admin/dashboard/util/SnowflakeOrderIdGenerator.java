@@ -0,0 +1,72 @@
+package com.admin.dashboard.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style ids: 41 bits of milliseconds since 2024-01-01 UTC, a 10 bit
+ * node id and a 12 bit per-millisecond sequence. Distinct node ids make ids
+ * unique across instances; within a node, timestamp and sequence are advanced
+ * together with a single CAS, so there is no lock.
+ *
+ * <p>When a millisecond's 4096 sequence values run out, or the clock steps
+ * backwards, the generator keeps counting forward from the last issued value
+ * instead of waiting, so ids stay unique and increasing.
+ *
+ * <p>Ids are rendered as {@code ORD} followed by 13 Crockford base32 digits,
+ * which sort in creation order.
+ */
+public class SnowflakeOrderIdGenerator implements OrderIdGenerator {
+
+    public static final long EPOCH_MILLIS = 1704067200000L;
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final String PREFIX = "ORD";
+    private static final int DIGITS = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+
+    // (milliseconds since epoch << SEQUENCE_BITS) | sequence of the last issued id
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeOrderIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public SnowflakeOrderIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        long next = last.updateAndGet(previous -> {
+            long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            return now > previous ? now : previous + 1;
+        });
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+    }
+
+    @Override
+    public String nextOrderId() {
+        return format(nextId());
+    }
+
+    public static String format(long id) {
+        char[] chars = new char[PREFIX.length() + DIGITS];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,78 @@
+package com.admin.dashboard.controller;
+
+import com.admin.dashboard.entity.User;
+import com.admin.dashboard.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private UserService userService;
+
+    @Test
+    void registrationIsSavedOffTheHashingPool() throws Exception {
+        List<String> savingThreads = new ArrayList<>();
+        doAnswer(invocation -> {
+            savingThreads.add(Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(userService).createUserWithEncodedPassword(any(User.class));
+
+        register("pool@example.com")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+
+        assertThat(savingThreads).hasSize(1);
+        assertThat(savingThreads.get(0)).doesNotStartWith("password-hash-");
+    }
+
+    @Test
+    void registrationLosingTheEmailRaceIsReportedAsTaken() throws Exception {
+        register("race@example.com").andExpect(status().isOk());
+        // As if the first registration committed after this one's existence check
+        doReturn(false).when(userService).existsByEmail(eq("race@example.com"));
+
+        register("race@example.com")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Email already exists"));
+    }
+
+    private ResultActions register(String email) throws Exception {
+        String body = """
+                {"name": "Pool Tester", "email": "%s", "password": "password123", "role": "CUSTOMER"}
+                """.formatted(email);
+        MvcResult started = mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
@@ -0,0 +1,132 @@
+package com.admin.dashboard.controller;
+
+import com.admin.dashboard.metrics.StatementBudgetExceededException;
+import com.admin.dashboard.metrics.StatementCounter;
+import com.admin.dashboard.repository.OrderRepository;
+import com.admin.dashboard.util.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the order read endpoints with {@code metrics.n-plus-one.enforce} on, so
+ * a request that goes over its {@code @StatementBudget} (e.g. order items or
+ * their products loading lazily one by one) fails the test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderControllerStatementBudgetTest {
+
+    private static final int ORDERS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private String token;
+    private long firstOrderId;
+
+    @BeforeEach
+    void createOrdersWithItems() throws Exception {
+        token = jwtUtil.generateJwtToken("admin@example.com");
+        firstOrderId = 0;
+        for (int i = 0; i < ORDERS; i++) {
+            String body = """
+                    {"customer": "Budget Test", "status": "CANCELLED", "total": 10,
+                     "orderDate": "%s",
+                     "orderItems": [
+                       {"product": {"id": 1}, "quantity": 1, "price": 5},
+                       {"product": {"id": 2}, "quantity": 1, "price": 5}
+                     ]}
+                    """.formatted(LocalDateTime.of(2030, 1, 1, 12, 0).plusMinutes(i));
+            JsonNode created = read(mockMvc.perform(authorized(post("/orders"))
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isCreated()));
+            if (firstOrderId == 0) {
+                firstOrderId = created.get("id").asLong();
+            }
+        }
+    }
+
+    @Test
+    void orderListStaysWithinBudget() throws Exception {
+        JsonNode page = read(mockMvc.perform(authorized(get("/orders")).param("size", "20"))
+                .andExpect(status().isOk()));
+
+        assertThat(page.get("orders").size()).isGreaterThanOrEqualTo(ORDERS);
+    }
+
+    @Test
+    void orderByIdLoadsItemsAndProductsWithinBudget() throws Exception {
+        JsonNode order = read(mockMvc.perform(authorized(get("/orders/{id}", firstOrderId)))
+                .andExpect(status().isOk()));
+
+        assertThat(order.get("orderItems")).hasSize(2);
+        for (JsonNode item : order.get("orderItems")) {
+            assertThat(item.get("product").get("name").asText()).isNotEmpty();
+        }
+    }
+
+    @Test
+    void ordersByStatusLoadItemsAndProductsWithinBudget() throws Exception {
+        JsonNode orders = read(mockMvc.perform(authorized(get("/orders/status/{status}", "CANCELLED")))
+                .andExpect(status().isOk()));
+
+        assertThat(orders.size()).isGreaterThanOrEqualTo(ORDERS);
+        for (JsonNode order : orders) {
+            assertThat(order.get("orderItems")).hasSize(2);
+            for (JsonNode item : order.get("orderItems")) {
+                assertThat(item.get("product").get("name").asText()).isNotEmpty();
+            }
+        }
+    }
+
+    @Test
+    void statementOverBudgetFails() {
+        statementCounter.begin(1);
+        try {
+            orderRepository.count();
+            assertThatThrownBy(() -> orderRepository.count())
+                    .isInstanceOf(StatementBudgetExceededException.class);
+        } finally {
+            statementCounter.end();
+        }
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private JsonNode read(org.springframework.test.web.servlet.ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,140 @@
+package com.admin.dashboard.controller;
+
+import com.admin.dashboard.util.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Product edits racing checkouts: an edit made to an older version is
+ * rejected rather than overwriting the stock an order took, and bulk imports
+ * take stock like checkouts.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductControllerConflictTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private long productId;
+
+    @BeforeEach
+    void createProduct() throws Exception {
+        token = jwtUtil.generateJwtToken("admin@example.com");
+        JsonNode created = read(mockMvc.perform(authorized(post("/products"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Conflict Lamp\", \"category\": \"Home\", \"price\": 20, \"stock\": 10}"))
+                .andExpect(status().isCreated()));
+        productId = created.get("id").asLong();
+    }
+
+    @Test
+    void editOfCurrentVersionIsSaved() throws Exception {
+        ObjectNode edit = (ObjectNode) fetchProduct();
+        edit.put("name", "Renamed Lamp");
+
+        JsonNode saved = read(mockMvc.perform(edit(edit))
+                .andExpect(status().isOk()));
+
+        assertThat(saved.get("name").asText()).isEqualTo("Renamed Lamp");
+        assertThat(saved.get("version").asLong()).isGreaterThan(edit.get("version").asLong());
+    }
+
+    @Test
+    void editRacingACheckoutIsRejectedAndKeepsTheReservation() throws Exception {
+        ObjectNode edit = (ObjectNode) fetchProduct();
+        createOrder(3);
+        edit.put("name", "Stale Lamp");
+
+        mockMvc.perform(edit(edit))
+                .andExpect(status().isConflict());
+
+        JsonNode product = fetchProduct();
+        assertThat(product.get("stock").asInt()).isEqualTo(7);
+        assertThat(product.get("name").asText()).isEqualTo("Conflict Lamp");
+    }
+
+    @Test
+    void editWithoutIfMatchIsRejected() throws Exception {
+        JsonNode edit = fetchProduct();
+
+        mockMvc.perform(authorized(put("/products/{id}", productId))
+                        .contentType(MediaType.APPLICATION_JSON).content(edit.toString()))
+                .andExpect(status().isPreconditionRequired());
+    }
+
+    @Test
+    void bulkImportTakesStockAndRejectsOverselling() throws Exception {
+        String body = """
+                [
+                  {"customer": "Bulk Buyer", "status": "DELIVERED", "total": 1,
+                   "orderItems": [{"product": {"id": %1$d}, "quantity": 4, "price": 20}]},
+                  {"customer": "Bulk Buyer", "status": "DELIVERED", "total": 1,
+                   "orderItems": [{"product": {"id": %1$d}, "quantity": 7, "price": 20}]}
+                ]
+                """.formatted(productId);
+
+        JsonNode response = read(mockMvc.perform(authorized(post("/orders/bulk"))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk()));
+
+        assertThat(response.get("created").asInt()).isEqualTo(1);
+        assertThat(response.get("results").get(1).get("error").asText()).contains("Insufficient stock");
+        assertThat(fetchProduct().get("stock").asInt()).isEqualTo(6);
+    }
+
+    private void createOrder(int quantity) throws Exception {
+        String body = """
+                {"customer": "Checkout", "status": "PENDING", "total": 1,
+                 "orderItems": [{"product": {"id": %d}, "quantity": %d, "price": 20}]}
+                """.formatted(productId, quantity);
+        mockMvc.perform(authorized(post("/orders"))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+    }
+
+    private MockHttpServletRequestBuilder edit(JsonNode product) {
+        return authorized(put("/products/{id}", productId))
+                .header(HttpHeaders.IF_MATCH, "\"" + product.get("version").asLong() + "\"")
+                .contentType(MediaType.APPLICATION_JSON).content(product.toString());
+    }
+
+    private JsonNode fetchProduct() throws Exception {
+        return read(mockMvc.perform(authorized(get("/products/{id}", productId)))
+                .andExpect(status().isOk()));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private JsonNode read(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+}
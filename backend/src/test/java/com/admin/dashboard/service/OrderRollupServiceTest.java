@@ -0,0 +1,72 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.entity.Order;
+import com.admin.dashboard.entity.OrderRollup;
+import com.admin.dashboard.repository.DailyOrderRollupRepository;
+import com.admin.dashboard.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderRollupServiceTest {
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DailyOrderRollupRepository dailyRollupRepository;
+
+    @Test
+    void reconcileRebuildsRollupsThatMissedOrdersWrittenOutsideTheServices() {
+        orderRollupService.reconcile();
+        OrderTotals before = orderRollupService.summarizeAll();
+
+        Order order = new Order("Drift Tester", new BigDecimal("42.50"), Order.Status.SHIPPED);
+        order.setOrderId("DRIFT001");
+        order.setOrderDate(LocalDateTime.of(2024, 3, 1, 9, 30));
+        order = orderRepository.save(order);
+        assertThat(orderRollupService.summarizeAll().getOrderCount()).isEqualTo(before.getOrderCount());
+
+        orderRollupService.reconcile();
+        OrderTotals after = orderRollupService.summarizeAll();
+        assertThat(after.getOrderCount()).isEqualTo(orderRepository.count());
+        assertThat(after.getRevenue()).isEqualByComparingTo(before.getRevenue().add(new BigDecimal("42.50")));
+
+        order.setTotal(new BigDecimal("50.00"));
+        orderRepository.save(order);
+        orderRollupService.reconcile();
+        assertThat(orderRollupService.summarizeAll().getRevenue())
+                .isEqualByComparingTo(before.getRevenue().add(new BigDecimal("50.00")));
+
+        orderRepository.delete(order);
+        orderRollupService.reconcile();
+        assertThat(orderRollupService.summarizeAll().getRevenue()).isEqualByComparingTo(before.getRevenue());
+    }
+
+    @Test
+    void reconcileLeavesMatchingRollupsAlone() {
+        orderRollupService.reconcile();
+        List<Long> bucketIds = dailyBucketIds();
+
+        orderRollupService.reconcile();
+
+        // A rebuild would have replaced every bucket row
+        assertThat(dailyBucketIds()).isEqualTo(bucketIds);
+    }
+
+    private List<Long> dailyBucketIds() {
+        return dailyRollupRepository.findAll().stream().map(OrderRollup::getId).sorted().toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.admin.dashboard.service;
+
+import com.admin.dashboard.dto.ProductSummary;
+import com.admin.dashboard.entity.Product;
+import com.admin.dashboard.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchIndexServiceTest {
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @SpyBean
+    private ProductRepository productRepository;
+
+    @Test
+    void buildReplaysChangesCommittedWhileItReads() {
+        Product lamp = productService.createProduct(new Product("Ghostly Lamp", "Home", new BigDecimal("25.00"), 4));
+        Product vase = productService.createProduct(new Product("Renamed Vase", "Home", new BigDecimal("18.00"), 9));
+
+        // Spies can't call through to a repository proxy, so read through an unspied one
+        ProductRepository products = new JpaRepositoryFactory(entityManager).getRepository(ProductRepository.class);
+        // Commit a delete and a rename while the build is streaming products, i.e. after the
+        // query ran but before the old rows have been put
+        AtomicBoolean changed = new AtomicBoolean();
+        doAnswer(invocation -> products.streamSearchFields().peek(row -> {
+            if (changed.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(() -> {
+                    productService.deleteProduct(lamp.getId());
+                    Product details = new Product("Tulip Vase", "Home", new BigDecimal("18.00"), 9);
+                    productService.updateProduct(vase.getId(), details, vase.getVersion());
+                }).join();
+            }
+        })).when(productRepository).streamSearchFields();
+
+        searchIndexService.build();
+
+        assertThat(productIds("Ghostly")).isEmpty();
+        assertThat(productIds("Renamed")).isEmpty();
+        assertThat(productIds("Tulip")).containsExactly(vase.getId());
+    }
+
+    private List<Long> productIds(String term) {
+        return searchIndexService.searchProducts(term, Pageable.ofSize(10)).orElseThrow()
+                .map(ProductSummary::id).getContent();
+    }
+}
@@ -0,0 +1,119 @@
+package com.admin.dashboard.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaLogTest {
+
+    private final List<String> live = new ArrayList<>();
+    private final DeltaLog<String> log = new DeltaLog<>(live::add);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void appliesImmediatelyOutsideATransaction() {
+        log.afterCommit("a");
+
+        assertThat(live).containsExactly("a");
+    }
+
+    @Test
+    void appliesOnlyOnceCommitted() {
+        TransactionSynchronizationManager.initSynchronization();
+        log.afterCommit("committed");
+        List<TransactionSynchronization> committed = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        log.afterCommit("rolled back");
+        List<TransactionSynchronization> rolledBack = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        commit(committed);
+        rolledBack.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(live).containsExactly("committed");
+    }
+
+    @Test
+    void replaysDeltasCommittedAfterTheReadOpened() {
+        log.afterCommit("before");
+        List<String> installed = new ArrayList<>();
+
+        log.rebuild(() -> "opened", opened -> {
+            log.afterCommit("during");
+            return opened + " read";
+        }, (result, replay) -> {
+            installed.add(result);
+            installed.addAll(replay);
+        });
+        log.afterCommit("after");
+
+        assertThat(installed).containsExactly("opened read", "during");
+        assertThat(live).containsExactly("before", "during", "after");
+    }
+
+    @Test
+    void readOpensOnlyOnceCommitsInFlightHaveAppliedTheirDeltas() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        log.afterCommit("in flight");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.beforeCommit(false));
+
+        CountDownLatch opened = new CountDownLatch(1);
+        List<String> replayed = new ArrayList<>();
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() -> log.rebuild(() -> {
+            opened.countDown();
+            return "opened";
+        }, value -> value, (result, replay) -> replayed.addAll(replay)));
+
+        assertThat(opened.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        // Committed before the read opened, so the read sees it and it is not replayed
+        assertThat(live).containsExactly("in flight");
+        assertThat(replayed).isEmpty();
+    }
+
+    @Test
+    void failedReadLeavesTheLogUsable() {
+        try {
+            log.rebuild(() -> "opened", opened -> {
+                throw new IllegalStateException("read failed");
+            }, (result, replay) -> {});
+        } catch (IllegalStateException expected) {
+            // the rebuild is abandoned
+        }
+        List<String> replayed = new ArrayList<>();
+        log.afterCommit("later");
+
+        log.rebuild(() -> "opened", opened -> opened, (result, replay) -> replayed.addAll(replay));
+
+        assertThat(replayed).isEmpty();
+        assertThat(live).containsExactly("later");
+    }
+
+    private static void commit(List<TransactionSynchronization> synchronizations) {
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
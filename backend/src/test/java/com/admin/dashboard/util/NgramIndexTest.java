@@ -0,0 +1,91 @@
+package com.admin.dashboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    @Test
+    void findsCaseInsensitiveSubstrings() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Wireless Earbuds", "Electronics");
+        index.put(2L, "Yoga Mat", "Fitness");
+        index.put(3L, "Smart Watch", "Electronics");
+
+        assertThat(index.search("EARBUD")).containsExactly(1L);
+        assertThat(index.search("electro")).containsExactly(1L, 3L);
+        assertThat(index.search("less ear")).containsExactly(1L);
+        assertThat(index.search("missing")).isEmpty();
+    }
+
+    @Test
+    void confirmsCandidatesAgainstTheText() {
+        NgramIndex index = new NgramIndex();
+        // Holds every trigram of "abcabd" without containing it
+        index.put(1L, "abcab xbd cabd");
+        index.put(2L, "abcabd");
+
+        assertThat(index.search("abcabd")).containsExactly(2L);
+    }
+
+    @Test
+    void termsShorterThanATrigramScanTheStoredText() {
+        NgramIndex index = new NgramIndex();
+        index.put(3L, "Bob", "bob@example.com");
+        index.put(1L, "Alice", "alice@example.com");
+        index.put(2L, "Al", null);
+
+        assertThat(index.search("al")).containsExactly(1L, 2L);
+        assertThat(index.search("B")).containsExactly(3L);
+        assertThat(index.search("")).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("zz")).isEmpty();
+    }
+
+    @Test
+    void doesNotMatchAcrossFieldBoundaries() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "ab", "cd");
+
+        assertThat(index.search("abc")).isEmpty();
+        assertThat(index.search("bc")).isEmpty();
+        assertThat(index.search("cd")).containsExactly(1L);
+    }
+
+    @Test
+    void updatesReplaceTheOldText() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Jane Smith");
+        index.put(1L, "Jane Doe");
+
+        assertThat(index.search("smith")).isEmpty();
+        assertThat(index.search("jane doe")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsIdsSortedWhenInsertedOutOfOrder() {
+        NgramIndex index = new NgramIndex();
+        for (long id : new long[]{50, 10, 30, 20, 40, 60, 5}) {
+            index.put(id, "order " + id);
+        }
+
+        assertThat(index.search("order")).containsExactly(5L, 10L, 20L, 30L, 40L, 50L, 60L);
+    }
+
+    @Test
+    void removeAndClearDropDocuments() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Laptop Stand");
+        index.put(2L, "Laptop Bag");
+        index.remove(1L);
+        index.remove(99L);
+
+        assertThat(index.search("laptop")).containsExactly(2L);
+        assertThat(index.search("stand")).isEmpty();
+
+        index.clear();
+        assertThat(index.search("laptop")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
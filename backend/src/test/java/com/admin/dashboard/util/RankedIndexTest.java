@@ -0,0 +1,90 @@
+package com.admin.dashboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedIndexTest {
+
+    @Test
+    void topRanksByScoreThenAscendingId() {
+        RankedIndex index = new RankedIndex();
+        index.set(3, 10);
+        index.set(1, 10);
+        index.set(2, 30);
+        index.set(4, 5);
+
+        assertThat(index.top(3)).containsExactly(2L, 1L, 3L);
+        assertThat(index.top(10)).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(index.top(0)).isEmpty();
+    }
+
+    @Test
+    void setReturnsReplacedScoreAndMovesTheId() {
+        RankedIndex index = new RankedIndex();
+        assertThat(index.set(1, 5)).isEmpty();
+        index.set(2, 7);
+
+        assertThat(index.set(1, 9)).isEqualTo(OptionalLong.of(5));
+        assertThat(index.top(2)).containsExactly(1L, 2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addStartsUnrankedIdsFromZero() {
+        RankedIndex index = new RankedIndex();
+        index.add(1, 4);
+        index.add(1, -1);
+        index.add(2, -2);
+
+        assertThat(index.score(1)).isEqualTo(OptionalLong.of(3));
+        assertThat(index.score(2)).isEqualTo(OptionalLong.of(-2));
+        assertThat(index.score(3)).isEmpty();
+    }
+
+    @Test
+    void belowExcludesTheBoundaryAndListsLowestFirst() {
+        RankedIndex index = new RankedIndex();
+        index.set(1, 0);
+        index.set(2, 9);
+        index.set(3, 10);
+        index.set(4, 9);
+        index.set(5, 11);
+
+        assertThat(index.below(10)).containsExactly(1L, 4L, 2L);
+        assertThat(index.below(9)).containsExactly(1L);
+        assertThat(index.below(0)).isEmpty();
+        assertThat(index.below(12)).containsExactly(1L, 4L, 2L, 3L, 5L);
+    }
+
+    @Test
+    void belowHandlesExtremeScores() {
+        RankedIndex index = new RankedIndex();
+        index.set(1, Long.MIN_VALUE);
+        index.set(2, Long.MAX_VALUE);
+
+        assertThat(index.below(Long.MIN_VALUE)).isEmpty();
+        assertThat(index.below(Long.MIN_VALUE + 1)).containsExactly(1L);
+        assertThat(index.below(Long.MAX_VALUE)).containsExactly(1L);
+    }
+
+    @Test
+    void removeAndResetDropIds() {
+        RankedIndex index = new RankedIndex();
+        index.set(1, 5);
+        index.set(2, 6);
+        index.remove(1);
+        index.remove(42);
+
+        assertThat(index.top(5)).containsExactly(2L);
+        assertThat(index.below(100)).containsExactly(2L);
+
+        index.reset(Map.of(7L, 1L, 8L, 2L));
+        assertThat(index.top(5)).isEqualTo(List.of(8L, 7L));
+        assertThat(index.score(2)).isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package com.admin.dashboard.util;
+
+import com.admin.dashboard.util.SlidingWindowCounter.Count;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    @Test
+    void sumsCountsAcrossBucketsInTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.add(1, 2, 100);
+        counter.add(1, 3, 101);
+        counter.add(2, 4, 102);
+
+        assertThat(counter.top(5, 102)).containsExactly(new Count(1, 5), new Count(2, 4));
+    }
+
+    @Test
+    void expiresBucketsAsTheWindowMoves() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.add(1, 2, 100);
+        counter.add(1, 3, 101);
+        counter.add(2, 4, 102);
+
+        assertThat(counter.top(5, 103)).containsExactly(new Count(2, 4), new Count(1, 3));
+        assertThat(counter.top(5, 104)).containsExactly(new Count(2, 4));
+    }
+
+    @Test
+    void skippingMoreThanTheWindowClearsEverything() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.add(1, 2, 100);
+        counter.add(2, 4, 101);
+        counter.add(3, 1, 102);
+
+        assertThat(counter.top(5, 110)).isEmpty();
+
+        counter.add(1, 7, 110);
+        assertThat(counter.top(5, 110)).containsExactly(new Count(1, 7));
+    }
+
+    @Test
+    void slotsReusedAfterAWrapDoNotKeepOldCounts() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.add(1, 5, 100);
+        // Bucket 103 reuses bucket 100's slot
+        counter.add(1, 1, 103);
+
+        assertThat(counter.top(5, 103)).containsExactly(new Count(1, 1));
+    }
+
+    @Test
+    void ignoresCountsOlderThanTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.add(1, 1, 100);
+        counter.add(2, 9, 97);
+        counter.add(3, 2, 98);
+
+        assertThat(counter.top(5, 100)).containsExactly(new Count(3, 2), new Count(1, 1));
+    }
+
+    @Test
+    void topKeepsTheHighestTotalsWithTiesByAscendingId() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(24);
+        for (long id = 1; id <= 10; id++) {
+            counter.add(id, id % 4, 0);
+        }
+
+        assertThat(counter.top(3, 0)).containsExactly(new Count(3, 3), new Count(7, 3), new Count(2, 2));
+        assertThat(counter.top(0, 0)).isEmpty();
+    }
+
+    @Test
+    void removeDropsAnIdFromEveryBucket() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(3);
+        counter.add(1, 2, 100);
+        counter.add(1, 3, 101);
+        counter.add(2, 1, 101);
+        counter.remove(1);
+
+        assertThat(counter.top(5, 101)).containsExactly(new Count(2, 1));
+        assertThat(counter.top(5, 102)).containsExactly(new Count(2, 1));
+    }
+}
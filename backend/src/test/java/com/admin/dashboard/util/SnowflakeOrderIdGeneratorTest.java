@@ -0,0 +1,131 @@
+package com.admin.dashboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeOrderIdGeneratorTest {
+
+    private static final long NOW = SnowflakeOrderIdGenerator.EPOCH_MILLIS + 1_000_000L;
+    private static final int SEQUENCE_SIZE = 1 << SnowflakeOrderIdGenerator.SEQUENCE_BITS;
+
+    @Test
+    void packsTimestampNodeAndSequence() {
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(5, () -> NOW);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(timestamp(first)).isEqualTo(NOW - SnowflakeOrderIdGenerator.EPOCH_MILLIS);
+        assertThat(node(first)).isEqualTo(5);
+        assertThat(sequence(first)).isZero();
+        assertThat(sequence(second)).isEqualTo(1);
+    }
+
+    @Test
+    void sequenceRolloverBorrowsTheNextMillisecond() {
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(1, () -> NOW);
+
+        long previous = -1;
+        for (int i = 0; i < SEQUENCE_SIZE; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        long rolled = generator.nextId();
+
+        assertThat(rolled).isGreaterThan(previous);
+        assertThat(timestamp(rolled)).isEqualTo(timestamp(previous) + 1);
+        assertThat(sequence(rolled)).isZero();
+        assertThat(node(rolled)).isEqualTo(1);
+    }
+
+    @Test
+    void clockSteppingBackKeepsIdsIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(0, clock::get);
+
+        long before = generator.nextId();
+        clock.set(NOW - 5_000);
+        long during = generator.nextId();
+        clock.set(NOW + 1);
+        long after = generator.nextId();
+
+        assertThat(during).isGreaterThan(before);
+        assertThat(timestamp(during)).isEqualTo(timestamp(before));
+        assertThat(after).isGreaterThan(during);
+        assertThat(timestamp(after)).isEqualTo(NOW + 1 - SnowflakeOrderIdGenerator.EPOCH_MILLIS);
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(7, () -> NOW);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 5_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    void formattedIdsHaveFixedWidthAndSortInCreationOrder() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(3, clock::get);
+
+        String first = generator.nextOrderId();
+        clock.addAndGet(1);
+        String second = generator.nextOrderId();
+
+        assertThat(first).startsWith("ORD").hasSize(16);
+        assertThat(second).hasSize(16);
+        assertThat(first).isLessThan(second);
+        assertThat(SnowflakeOrderIdGenerator.format(0)).isEqualTo("ORD0000000000000");
+    }
+
+    @Test
+    void rejectsNodeIdsOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeOrderIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeOrderIdGenerator(SnowflakeOrderIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long timestamp(long id) {
+        return id >>> (SnowflakeOrderIdGenerator.NODE_BITS + SnowflakeOrderIdGenerator.SEQUENCE_BITS);
+    }
+
+    private static long node(long id) {
+        return (id >>> SnowflakeOrderIdGenerator.SEQUENCE_BITS) & SnowflakeOrderIdGenerator.MAX_NODE_ID;
+    }
+
+    private static long sequence(long id) {
+        return id & (SEQUENCE_SIZE - 1);
+    }
+}